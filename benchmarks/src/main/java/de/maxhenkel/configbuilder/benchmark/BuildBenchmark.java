@@ -0,0 +1,63 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entries;
+
+    @Param({"ASCII", "UNICODE", "CONTINUATION"})
+    public ConfigGenerator.Variant variant;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempFile("configbuilder-benchmark", ".properties");
+        Files.write(path, ConfigGenerator.file(entries, variant));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public Config build() {
+        return ConfigBuilder.builder(builder -> new Config(builder, entries, variant)).path(path).saveAfterBuild(false).build();
+    }
+
+    @Benchmark
+    public Config buildInMemory() {
+        return ConfigBuilder.builder(builder -> new Config(builder, entries, variant)).saveAfterBuild(false).build();
+    }
+
+    public static class Config {
+        public final List<ConfigEntry<String>> entries;
+
+        public Config(ConfigBuilder builder, int entryCount, ConfigGenerator.Variant variant) {
+            builder.header("Generated benchmark config");
+            entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entries.add(builder.stringEntry(ConfigGenerator.key(i), ConfigGenerator.value(i, variant), ConfigGenerator.comment(i, variant)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates synthetic configs for the benchmarks.
+ */
+public class ConfigGenerator {
+
+    private static final String UNICODE_TEXT = "Grüße aus Köln - Привет мир - 你好世界 - こんにちは - 😂🎉";
+    private static final int CONTINUATION_LINES = 16;
+
+    public enum Variant {
+        /**
+         * Plain ASCII keys, values and comments.
+         */
+        ASCII,
+        /**
+         * Values and comments that are mostly non-ASCII characters.
+         */
+        UNICODE,
+        /**
+         * Long values that are split over multiple lines with <code>\</code> in the file.
+         */
+        CONTINUATION
+    }
+
+    public static String key(int index) {
+        return String.format("category_%d.entry_%d", index % 16, index);
+    }
+
+    public static String value(int index, Variant variant) {
+        switch (variant) {
+            case UNICODE:
+                return UNICODE_TEXT + " " + index;
+            case CONTINUATION:
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < CONTINUATION_LINES; i++) {
+                    sb.append("part ").append(i).append(" of value ").append(index).append(' ');
+                }
+                return sb.toString();
+            default:
+                return "value " + index + " with some plain text";
+        }
+    }
+
+    public static String comment(int index, Variant variant) {
+        if (variant == Variant.UNICODE) {
+            return "Kommentar " + index + " " + UNICODE_TEXT;
+        }
+        return "This is the comment of entry " + index;
+    }
+
+    /**
+     * @param entries the number of entries
+     * @param variant the variant
+     * @return the in-memory properties
+     */
+    public static CommentedProperties properties(int entries, Variant variant) {
+        CommentedProperties properties = new CommentedProperties(false);
+        properties.addHeaderComment("Generated benchmark config");
+        properties.addHeaderComment("Entries: " + entries + ", variant: " + variant);
+        for (int i = 0; i < entries; i++) {
+            properties.set(key(i), value(i, variant), comment(i, variant));
+        }
+        return properties;
+    }
+
+    /**
+     * @param entries the number of entries
+     * @param variant the variant
+     * @return the file contents
+     */
+    public static byte[] file(int entries, Variant variant) {
+        if (variant != Variant.CONTINUATION) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            properties(entries, variant).save(out);
+            return out.toByteArray();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Generated benchmark config\n");
+        sb.append("# Entries: ").append(entries).append(", variant: ").append(variant).append("\n\n");
+        for (int i = 0; i < entries; i++) {
+            sb.append("# ").append(comment(i, variant)).append('\n');
+            sb.append(key(i)).append('=');
+            for (int j = 0; j < CONTINUATION_LINES; j++) {
+                sb.append("part ").append(j).append(" of value ").append(i).append(' ');
+                if (j < CONTINUATION_LINES - 1) {
+                    sb.append("\\\n    ");
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+}
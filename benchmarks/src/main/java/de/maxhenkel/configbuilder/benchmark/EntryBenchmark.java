@@ -0,0 +1,88 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.ConfigBinding;
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.IntegerConfigEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntryBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entries;
+
+    private Config config;
+    private ConfigBinding<BoundConfig> binding;
+    private ConfigEntry<Integer> boundIntegerEntry;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        config = ConfigBuilder.builder(builder -> new Config(builder, entries)).saveAfterBuild(false).build();
+        binding = ConfigBinding.builder(BoundConfig.class).saveAfterBuild(false).build();
+        boundIntegerEntry = binding.getEntry("integer");
+    }
+
+    @Benchmark
+    public Integer getInteger() {
+        return config.integerEntry.get();
+    }
+
+    @Benchmark
+    public int getAsInt() {
+        return config.integerEntry.getAsInt();
+    }
+
+    @Benchmark
+    public Integer getBoundInteger() {
+        return boundIntegerEntry.get();
+    }
+
+    @Benchmark
+    public BoundConfig getBoundSnapshot() {
+        return binding.get();
+    }
+
+    @Benchmark
+    public String getString() {
+        return config.stringEntry.get();
+    }
+
+    @Benchmark
+    public Object setInteger() {
+        // Alternate the value, so the set is never skipped because the value did not change
+        return config.integerEntry.set(counter++ & 1023);
+    }
+
+    @Benchmark
+    public Object setString() {
+        return config.stringEntry.set((counter++ & 1) == 0 ? "value_a" : "value_b");
+    }
+
+    public static class Config {
+        public final IntegerConfigEntry integerEntry;
+        public final ConfigEntry<String> stringEntry;
+
+        public Config(ConfigBuilder builder, int entryCount) {
+            for (int i = 0; i < entryCount; i++) {
+                builder.stringEntry(ConfigGenerator.key(i), ConfigGenerator.value(i, ConfigGenerator.Variant.ASCII));
+            }
+            integerEntry = builder.integerEntry("integer", 10, 0, 1024);
+            stringEntry = builder.stringEntry("string", "value_a");
+        }
+    }
+
+    public static class BoundConfig {
+        public int integer = 10;
+        public String string = "value_a";
+    }
+
+}
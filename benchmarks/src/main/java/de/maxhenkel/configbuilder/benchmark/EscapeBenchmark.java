@@ -0,0 +1,56 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscapeBenchmark {
+
+    @Param({"ASCII", "UNICODE", "CONTINUATION"})
+    public ConfigGenerator.Variant variant;
+
+    @Param({"true", "false"})
+    public boolean strict;
+
+    private CommentedProperties properties;
+    private StringBuilder out;
+    private String key;
+    private String value;
+
+    @Setup
+    public void setup() {
+        properties = new CommentedProperties(strict);
+        out = new StringBuilder();
+        key = ConfigGenerator.key(42);
+        value = ConfigGenerator.value(42, variant);
+    }
+
+    @Benchmark
+    public int escape() throws Throwable {
+        out.setLength(0);
+        Internals.ESCAPE.invokeExact(out, value, strict, false);
+        return out.length();
+    }
+
+    @Benchmark
+    public int escapeKey() throws Throwable {
+        out.setLength(0);
+        Internals.ESCAPE_KEY.invokeExact(properties, out, key);
+        return out.length();
+    }
+
+    @Benchmark
+    public int escapeValue() throws Throwable {
+        out.setLength(0);
+        Internals.ESCAPE_VALUE.invokeExact(properties, out, value);
+        return out.length();
+    }
+
+}
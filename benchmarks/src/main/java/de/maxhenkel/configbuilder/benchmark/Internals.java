@@ -0,0 +1,66 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Method handles for non-public methods of the library that are benchmarked directly.
+ * <br/>
+ * The handles are stored in static final fields, so the JIT can inline them like a direct call.
+ */
+public class Internals {
+
+    private static final String PARSER_CLASS = "de.maxhenkel.configbuilder.PropertiesParser";
+
+    public static final MethodHandle NEW_PARSER = findConstructor(PARSER_CLASS, char[].class, int.class, int.class);
+    public static final MethodHandle PARSER_NEXT = find(PARSER_CLASS, "next");
+    public static final MethodHandle PARSER_KEY = find(PARSER_CLASS, "key");
+    public static final MethodHandle PARSER_VALUE = find(PARSER_CLASS, "value");
+
+    public static final MethodHandle ESCAPE = find(CommentedProperties.class.getName(), "escape", StringBuilder.class, String.class, boolean.class, boolean.class);
+    public static final MethodHandle ESCAPE_KEY = find(CommentedProperties.class.getName(), "escapeKey", StringBuilder.class, String.class);
+    public static final MethodHandle ESCAPE_VALUE = find(CommentedProperties.class.getName(), "escapeValue", StringBuilder.class, String.class);
+
+    private static MethodHandle find(String className, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = Class.forName(className).getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return erase(MethodHandles.lookup().unreflect(method));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Could not find method %s", name), e);
+        }
+    }
+
+    private static MethodHandle findConstructor(String className, Class<?>... parameterTypes) {
+        try {
+            Constructor<?> constructor = Class.forName(className).getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return erase(MethodHandles.lookup().unreflectConstructor(constructor));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Could not find constructor of %s", className), e);
+        }
+    }
+
+    /**
+     * Replaces non-public parameter types and all reference return types with {@link Object}, so the handles can be invoked exactly from the benchmarks.
+     */
+    private static MethodHandle erase(MethodHandle handle) {
+        MethodType type = handle.type();
+        for (int i = 0; i < type.parameterCount(); i++) {
+            if (!Modifier.isPublic(type.parameterType(i).getModifiers())) {
+                type = type.changeParameterType(i, Object.class);
+            }
+        }
+        if (!type.returnType().isPrimitive()) {
+            type = type.changeReturnType(Object.class);
+        }
+        return handle.asType(type);
+    }
+
+}
@@ -0,0 +1,49 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.custom.IntegerList;
+import de.maxhenkel.configbuilder.custom.serializer.IntegerListValueSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int elements;
+
+    private IntegerList list;
+    private String serialized;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        int[] values = new int[elements];
+        for (int i = 0; i < elements; i++) {
+            values[i] = i * 7;
+        }
+        list = IntegerList.of(values);
+        serialized = IntegerListValueSerializer.INSTANCE.serialize(list);
+    }
+
+    @Benchmark
+    public IntegerList deserializeIntegerList() {
+        return IntegerListValueSerializer.INSTANCE.deserialize(serialized);
+    }
+
+    @Benchmark
+    public String serializeIntegerList() {
+        return IntegerListValueSerializer.INSTANCE.serialize(list);
+    }
+
+    @Benchmark
+    public boolean containsInteger() {
+        return list.contains((counter++ % elements) * 7);
+    }
+
+}
@@ -0,0 +1,85 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.IndexedPropertyConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entries;
+
+    @Param({"ASCII", "UNICODE", "CONTINUATION"})
+    public ConfigGenerator.Variant variant;
+
+    private byte[] file;
+    private Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        file = ConfigGenerator.file(entries, variant);
+        path = Files.createTempFile("configbuilder-benchmark", ".properties");
+        Files.write(path, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(path.resolveSibling(String.format(".%s.idx", path.getFileName())));
+        Files.deleteIfExists(path.resolveSibling(String.format(".%s.bin", path.getFileName())));
+    }
+
+    @Benchmark
+    public CommentedProperties load() throws IOException {
+        return new CommentedProperties(false).load(new ByteArrayInputStream(file));
+    }
+
+    @Benchmark
+    public CommentedProperties loadStrict() throws IOException {
+        return new CommentedProperties(true).load(new ByteArrayInputStream(file));
+    }
+
+    @Benchmark
+    public CommentedProperties loadFileStream() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return new CommentedProperties(false).load(inputStream);
+        }
+    }
+
+    @Benchmark
+    public CommentedProperties loadFileChannel() throws IOException {
+        return new CommentedProperties(false).load(path);
+    }
+
+    @Benchmark
+    public CommentedPropertyConfig loadConfigFileChannel() {
+        return CommentedPropertyConfig.builder().path(path).strict(false).fileChannelLoading(true).build();
+    }
+
+    @Benchmark
+    public CommentedPropertyConfig loadSnapshotCache() {
+        // The snapshot is written in the first invocation and reused afterwards
+        return CommentedPropertyConfig.builder().path(path).strict(false).fileChannelLoading(true).snapshotCache(true).build();
+    }
+
+    @Benchmark
+    public String loadIndexedAndGet() {
+        // The index is built in the first invocation and reused afterwards
+        return IndexedPropertyConfig.builder().path(path).strict(false).build().get(ConfigGenerator.key(entries / 2));
+    }
+
+}
@@ -0,0 +1,43 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.custom.StringMap;
+import de.maxhenkel.configbuilder.custom.serializer.StringMapValueSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int pairs;
+
+    private StringMap map;
+    private String serialized;
+
+    @Setup
+    public void setup() {
+        StringMap.Builder builder = StringMap.builder();
+        for (int i = 0; i < pairs; i++) {
+            builder.put("key_" + i, "Value \"" + i + "\" with a \\ backslash");
+        }
+        map = builder.build();
+        serialized = StringMapValueSerializer.INSTANCE.serialize(map);
+    }
+
+    @Benchmark
+    public StringMap deserializeStringMap() {
+        return StringMapValueSerializer.INSTANCE.deserialize(serialized);
+    }
+
+    @Benchmark
+    public String serializeStringMap() {
+        return StringMapValueSerializer.INSTANCE.serialize(map);
+    }
+
+}
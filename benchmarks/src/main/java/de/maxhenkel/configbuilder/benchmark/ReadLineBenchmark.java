@@ -0,0 +1,48 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadLineBenchmark {
+
+    @Param({"ASCII", "UNICODE", "CONTINUATION"})
+    public ConfigGenerator.Variant variant;
+
+    private char[] line;
+    private char[] comment;
+
+    @Setup
+    public void setup() {
+        String file = new String(ConfigGenerator.file(1, variant), StandardCharsets.ISO_8859_1);
+        String[] lines = file.split("\n");
+        // Two header comments, an empty line, the entry comment and the entry including its continuation lines
+        comment = lines[3].toCharArray();
+        line = String.join("\n", Arrays.copyOfRange(lines, 4, lines.length)).toCharArray();
+    }
+
+    @Benchmark
+    public void readEntry(Blackhole blackhole) throws Throwable {
+        Object parser = Internals.NEW_PARSER.invokeExact(line, 0, line.length);
+        blackhole.consume(Internals.PARSER_NEXT.invokeExact(parser));
+        blackhole.consume(Internals.PARSER_KEY.invokeExact(parser));
+        blackhole.consume(Internals.PARSER_VALUE.invokeExact(parser));
+    }
+
+    @Benchmark
+    public void readComment(Blackhole blackhole) throws Throwable {
+        Object parser = Internals.NEW_PARSER.invokeExact(comment, 0, comment.length);
+        blackhole.consume(Internals.PARSER_NEXT.invokeExact(parser));
+        blackhole.consume(Internals.PARSER_VALUE.invokeExact(parser));
+    }
+
+}
@@ -0,0 +1,39 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SaveBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entries;
+
+    @Param({"ASCII", "UNICODE", "CONTINUATION"})
+    public ConfigGenerator.Variant variant;
+
+    private CommentedProperties properties;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        properties = ConfigGenerator.properties(entries, variant);
+        out = new ByteArrayOutputStream(ConfigGenerator.file(entries, variant).length);
+    }
+
+    @Benchmark
+    public int save() {
+        out.reset();
+        properties.save(out);
+        return out.size();
+    }
+
+}
@@ -0,0 +1,52 @@
+package de.maxhenkel.configbuilder.benchmark;
+
+import de.maxhenkel.configbuilder.custom.StringList;
+import de.maxhenkel.configbuilder.custom.StringSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int elements;
+
+    private StringList list;
+    private StringSet set;
+    private String[] names;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        List<String> values = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            values.add("player_" + i);
+        }
+        list = StringList.of(values);
+        set = StringSet.of(values);
+        // Look up copies, so the strings are not identical to the elements
+        names = new String[elements];
+        for (int i = 0; i < elements; i++) {
+            names[i] = new String(values.get(i));
+        }
+    }
+
+    @Benchmark
+    public boolean containsStringList() {
+        return list.contains(names[counter++ % elements]);
+    }
+
+    @Benchmark
+    public boolean containsStringSet() {
+        return set.contains(names[counter++ % elements]);
+    }
+
+}
@@ -0,0 +1,279 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.annotation.ConfigClass;
+import de.maxhenkel.configbuilder.annotation.ConfigValue;
+import de.maxhenkel.configbuilder.annotation.Range;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * The members of a class that is bound with {@link ConfigBinding}.
+ * <br/>
+ * The members are looked up with reflection once per class and accessed through method handles afterwards.
+ */
+class BindingModel<T> {
+
+    private static final ClassValue<BindingModel<?>> MODELS = new ClassValue<BindingModel<?>>() {
+        @Override
+        protected BindingModel<?> computeValue(Class<?> type) {
+            return new BindingModel<>(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType RECORD_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    final Class<T> type;
+    final String[] header;
+    final Member[] members;
+    final Map<String, Integer> indices;
+    private final MethodHandle constructor;
+    /**
+     * The canonical constructor of records or <code>null</code> if the type is not a record.
+     */
+    @Nullable
+    private final MethodHandle recordConstructor;
+
+    private BindingModel(Class<T> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException(String.format("Can't bind %s", type.getName()));
+        }
+        if (type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers())) {
+            throw new IllegalArgumentException(String.format("Can't bind inner class %s", type.getName()));
+        }
+        this.type = type;
+        ConfigClass configClass = type.getAnnotation(ConfigClass.class);
+        this.header = configClass == null ? new String[0] : configClass.header();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            Constructor<T> defaultConstructor = type.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("%s needs a constructor without parameters", type.getName()), e);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Can't access the constructor of %s", type.getName()), e);
+        }
+        try {
+            if (isRecord(type)) {
+                Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+                this.members = new Member[components.length];
+                Class<?>[] componentTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    Class<?> componentClass = components[i].getClass();
+                    String name = (String) componentClass.getMethod("getName").invoke(components[i]);
+                    Method accessor = (Method) componentClass.getMethod("getAccessor").invoke(components[i]);
+                    componentTypes[i] = accessor.getReturnType();
+                    accessor.setAccessible(true);
+                    // Annotations of record components are propagated to the private field
+                    Field field = type.getDeclaredField(name);
+                    members[i] = new Member(field, componentTypes[i], lookup.unreflect(accessor).asType(GETTER_TYPE), null);
+                }
+                Constructor<T> canonicalConstructor = type.getDeclaredConstructor(componentTypes);
+                canonicalConstructor.setAccessible(true);
+                this.recordConstructor = lookup.unreflectConstructor(canonicalConstructor)
+                        .asType(MethodType.genericMethodType(components.length))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(RECORD_CONSTRUCTOR_TYPE);
+            } else {
+                List<Member> fields = new ArrayList<>();
+                for (Field field : type.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    if (Modifier.isFinal(modifiers)) {
+                        throw new IllegalArgumentException(String.format("Config field %s can't be final", field.getName()));
+                    }
+                    field.setAccessible(true);
+                    fields.add(new Member(field, field.getType(), lookup.unreflectGetter(field).asType(GETTER_TYPE), lookup.unreflectSetter(field).asType(SETTER_TYPE)));
+                }
+                this.members = fields.toArray(new Member[0]);
+                this.recordConstructor = null;
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (e instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e;
+            }
+            throw new IllegalArgumentException(String.format("Can't access the members of %s", type.getName()), e);
+        }
+
+        Map<String, Integer> indices = new HashMap<>();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < members.length; i++) {
+            indices.put(members[i].name, i);
+            if (!keys.add(members[i].key)) {
+                throw new IllegalArgumentException(String.format("Duplicate config key %s", members[i].key));
+            }
+        }
+        this.indices = Collections.unmodifiableMap(indices);
+    }
+
+    static <T> BindingModel<T> of(Class<T> type) {
+        return (BindingModel<T>) MODELS.get(type);
+    }
+
+    private static boolean isRecord(Class<?> type) {
+        // Records are only available on Java 16 or newer
+        return type.getSuperclass() != null && type.getSuperclass().getName().equals("java.lang.Record");
+    }
+
+    /**
+     * @return a new instance created with the constructor without parameters
+     */
+    T newInstance() {
+        try {
+            return type.cast((Object) constructor.invokeExact());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @param values the values of all members
+     * @return a new instance with the provided values
+     */
+    T newInstance(Object[] values) {
+        try {
+            if (recordConstructor != null) {
+                return type.cast((Object) recordConstructor.invokeExact(values));
+            }
+            Object instance = constructor.invokeExact();
+            for (int i = 0; i < members.length; i++) {
+                members[i].setter.invokeExact(instance, values[i]);
+            }
+            return type.cast(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+
+    static class Member {
+        final String name;
+        final String key;
+        final String[] comments;
+        final Class<?> type;
+        final EntryKind kind;
+        @Nullable
+        final Double min;
+        @Nullable
+        final Double max;
+        private final MethodHandle getter;
+        @Nullable
+        private final MethodHandle setter;
+
+        private Member(Field field, Class<?> type, MethodHandle getter, @Nullable MethodHandle setter) {
+            this.name = field.getName();
+            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
+            this.key = configValue == null || configValue.key().isEmpty() ? name : configValue.key();
+            this.comments = configValue == null ? new String[0] : configValue.comments();
+            this.type = type;
+            this.kind = EntryKind.of(type);
+            this.getter = getter;
+            this.setter = setter;
+
+            Range range = field.getAnnotation(Range.class);
+            if (range != null && !kind.ranged) {
+                throw new IllegalArgumentException(String.format("@Range can't be used on %s", name));
+            }
+            this.min = range == null ? null : bound(range.min());
+            this.max = range == null ? null : bound(range.max());
+        }
+
+        @Nullable
+        private Double bound(double bound) {
+            if (Double.isNaN(bound)) {
+                throw new IllegalArgumentException(String.format("The bounds of %s can't be NaN", name));
+            }
+            if (Double.isInfinite(bound)) {
+                return null;
+            }
+            if ((kind == EntryKind.INTEGER || kind == EntryKind.LONG) && bound != Math.rint(bound)) {
+                throw new IllegalArgumentException(String.format("The bounds of %s must be whole numbers", name));
+            }
+            return bound;
+        }
+
+        Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        ConfigEntry<?> createEntry(ConfigBuilder builder, Object def) {
+            if (def == null) {
+                throw new IllegalArgumentException(String.format("The default value of %s can't be null", name));
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    return builder.booleanEntry(key, (Boolean) def, comments);
+                case INTEGER:
+                    return builder.integerEntry(key, (Integer) def, min == null ? null : min.intValue(), max == null ? null : max.intValue(), comments);
+                case LONG:
+                    return builder.longEntry(key, (Long) def, min == null ? null : min.longValue(), max == null ? null : max.longValue(), comments);
+                case FLOAT:
+                    return builder.floatEntry(key, (Float) def, min == null ? null : min.floatValue(), max == null ? null : max.floatValue(), comments);
+                case DOUBLE:
+                    return builder.doubleEntry(key, (Double) def, min, max, comments);
+                case STRING:
+                    return builder.stringEntry(key, (String) def, comments);
+                case ENUM:
+                    return builder.enumEntry(key, (Enum) def, comments);
+                default:
+                    return builder.entry(key, def, comments);
+            }
+        }
+    }
+
+    enum EntryKind {
+        BOOLEAN(false), INTEGER(true), LONG(true), FLOAT(true), DOUBLE(true), STRING(false), ENUM(false), GENERIC(false);
+
+        private final boolean ranged;
+
+        EntryKind(boolean ranged) {
+            this.ranged = ranged;
+        }
+
+        private static EntryKind of(Class<?> type) {
+            if (type == boolean.class || type == Boolean.class) {
+                return BOOLEAN;
+            } else if (type == int.class || type == Integer.class) {
+                return INTEGER;
+            } else if (type == long.class || type == Long.class) {
+                return LONG;
+            } else if (type == float.class || type == Float.class) {
+                return FLOAT;
+            } else if (type == double.class || type == Double.class) {
+                return DOUBLE;
+            } else if (type == String.class) {
+                return STRING;
+            } else if (type.isEnum()) {
+                return ENUM;
+            } else if (type.isPrimitive()) {
+                throw new IllegalArgumentException(String.format("Unsupported data type: %s", type.getName()));
+            }
+            return GENERIC;
+        }
+    }
+
+}
@@ -0,0 +1,864 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Properties that keep their order and comments.
+ * <br/>
+ * The header comments and properties are held in a state object that is published through a single volatile reference.
+ * Reading never locks.
+ * Single modifications are applied to the current state atomically per key, which only costs a constant amount of work.
+ * Loading, clearing, sorting and {@link #edit(Runnable) edits} build a new state and publish it at once,
+ * so readers never see an empty or partially loaded state.
+ * Modifications are serialized.
+ */
+public class CommentedProperties implements Map<String, String> {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final boolean strict;
+    private volatile State state;
+    /**
+     * The thread that is currently running {@link #edit(Runnable)}.
+     */
+    @Nullable
+    private volatile Thread editor;
+    /**
+     * The unpublished state of the current {@link #edit(Runnable)}, which is only accessed by the {@link #editor}.
+     */
+    @Nullable
+    private State editState;
+
+    /**
+     * @param strict if this should be compliant with Javas {@link java.util.Properties} implementation
+     */
+    public CommentedProperties(boolean strict) {
+        this.strict = strict;
+        this.state = new State();
+    }
+
+    /**
+     * Creates a new instance with strict mode enabled.
+     */
+    public CommentedProperties() {
+        this(true);
+    }
+
+    /**
+     * Adds the provided comment to the header comments.
+     *
+     * @param comment the comment
+     * @return this
+     */
+    public CommentedProperties addHeaderComment(String comment) {
+        modify(state -> {
+            List<String> headerComments = new ArrayList<>(state.headerComments);
+            headerComments.add(comment);
+            state.headerComments = Collections.unmodifiableList(headerComments);
+        });
+        return this;
+    }
+
+    /**
+     * Clears all previously set header comments and adds the provided comments.
+     *
+     * @param headerComments the header comments
+     * @return this
+     */
+    public CommentedProperties setHeaderComments(List<String> headerComments) {
+        List<String> copy = Collections.unmodifiableList(new ArrayList<>(headerComments));
+        modify(state -> state.headerComments = copy);
+        return this;
+    }
+
+    synchronized void sort(Comparator<String> comparator) {
+        State current = read();
+        List<String> keys = new ArrayList<>(current.order.values());
+        keys.sort(comparator);
+
+        State sorted = new State();
+        sorted.headerComments = current.headerComments;
+        for (String key : keys) {
+            Property property = current.properties.get(key);
+            sorted.put(key, property.comments, property.value);
+        }
+        publish(sorted);
+    }
+
+    /**
+     * Runs all modifications of the provided runnable on a private copy of the properties and publishes them at once.
+     * <br/>
+     * Other threads don't see any of the modifications until the runnable is done.
+     * If the runnable throws an exception, all of its modifications are discarded.
+     * Modifications of other threads are blocked while the runnable is running.
+     *
+     * @param runnable the modifications
+     */
+    void edit(Runnable runnable) {
+        edit(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link #edit(Runnable)}, but returns the result of the supplier.
+     *
+     * @param supplier the modifications
+     * @param <T>      the result type
+     * @return the result of the supplier
+     */
+    synchronized <T> T edit(Supplier<T> supplier) {
+        if (editor == Thread.currentThread()) {
+            return supplier.get();
+        }
+        editState = state.copy();
+        editor = Thread.currentThread();
+        try {
+            T result = supplier.get();
+            state = editState;
+            return result;
+        } finally {
+            editor = null;
+            editState = null;
+        }
+    }
+
+    private synchronized void modify(Consumer<State> modification) {
+        modification.accept(read());
+    }
+
+    private synchronized void publish(State newState) {
+        if (editor == Thread.currentThread()) {
+            editState = newState;
+            return;
+        }
+        state = newState;
+    }
+
+    /**
+     * @return the state that is visible to the current thread
+     */
+    private State read() {
+        if (editor == Thread.currentThread()) {
+            return editState;
+        }
+        return state;
+    }
+
+    /**
+     * @param key the key
+     * @return the value or <code>null</code> if the entry does not exist
+     */
+    @Nullable
+    public String get(String key) {
+        Objects.requireNonNull(key);
+        Property property = read().properties.get(key);
+        if (property == null) {
+            return null;
+        }
+        return property.value;
+    }
+
+    /**
+     * @param key the key
+     * @return all comments for the entry or <code>null</code> if the entry does not exist
+     */
+    @Nullable
+    public List<String> getComments(String key) {
+        Objects.requireNonNull(key);
+        Property property = read().properties.get(key);
+        if (property == null) {
+            return null;
+        }
+        return property.comments;
+    }
+
+    /**
+     * @param key      the key
+     * @param comments the comments for the entry
+     * @return this
+     */
+    public CommentedProperties setComments(String key, List<String> comments) {
+        Objects.requireNonNull(key);
+        Property existing = read().properties.get(key);
+        if (existing != null && existing.comments.equals(comments)) {
+            return this;
+        }
+        List<String> commentsCopy = new ArrayList<>(comments);
+        modify(state -> {
+            Property property = state.properties.get(key);
+            state.put(key, commentsCopy, property == null ? "" : property.value);
+        });
+        return this;
+    }
+
+    /**
+     * @param key      the key
+     * @param value    the value
+     * @param comments the comments for the entry
+     * @return this
+     */
+    public CommentedProperties set(String key, String value, String... comments) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Property existing = read().properties.get(key);
+        if (existing != null && existing.value.equals(value) && existing.comments.equals(Arrays.asList(comments))) {
+            // Avoids locking if nothing changed
+            return this;
+        }
+        List<String> commentsCopy = Arrays.asList(comments.clone());
+        modify(state -> state.put(key, commentsCopy, value));
+        return this;
+    }
+
+    /**
+     * Loads the properties from the provided file.
+     *
+     * @param inputStream the input stream to read from
+     * @return this
+     * @throws IOException if an IO error occurs
+     */
+    public CommentedProperties load(InputStream inputStream) throws IOException {
+        PropertiesParser parser;
+        try (Reader reader = new InputStreamReader(inputStream)) {
+            parser = PropertiesParser.fromReader(reader);
+        }
+        return load(parser);
+    }
+
+    /**
+     * Loads the properties from the provided file.
+     * <br/>
+     * The file is read through a {@link java.nio.channels.FileChannel} into a single buffer.
+     * Strict properties are decoded with ISO-8859-1 like {@link java.util.Properties#load(InputStream)}, other properties are decoded with UTF-8.
+     *
+     * @param path the file to read from
+     * @return this
+     * @throws IOException if an IO error occurs
+     */
+    public CommentedProperties load(Path path) throws IOException {
+        return load(PropertiesParser.fromFile(path, charset()));
+    }
+
+    /**
+     * Replaces all header comments and properties with the ones of the provided properties at once.
+     * <br/>
+     * The provided properties must not be used anymore afterwards.
+     *
+     * @param loaded the properties to take over
+     */
+    void replace(CommentedProperties loaded) {
+        publish(loaded.state);
+    }
+
+    /**
+     * @return if this is compliant with Javas {@link java.util.Properties} implementation
+     */
+    boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * @return the charset that is used to load files with {@link #load(Path)}
+     */
+    Charset charset() {
+        return strict ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8;
+    }
+
+    CommentedProperties load(PropertiesParser parser) throws IOException {
+        List<String> headerComments = new ArrayList<>();
+        State state = new State();
+        boolean header = true;
+        List<String> previousComments = new ArrayList<>();
+        PropertiesParser.LineType type;
+        while ((type = parser.next()) != null) {
+            if (type == PropertiesParser.LineType.BLANK) {
+                if (header) {
+                    headerComments.addAll(previousComments);
+                    previousComments.clear();
+                    header = false;
+                }
+                continue;
+            }
+            if (type == PropertiesParser.LineType.COMMENT) {
+                previousComments.add(parser.value());
+            } else {
+                state.put(parser.key(), previousComments, parser.value());
+                previousComments = new ArrayList<>();
+                header = false;
+            }
+        }
+
+        state.headerComments = Collections.unmodifiableList(headerComments);
+        publish(state);
+        return this;
+    }
+
+    /**
+     * Encodes the header comments, properties and comments.
+     * <br/>
+     * Every string is stored as its length followed by its characters and every number is stored as two characters,
+     * so that {@link #loadSnapshot(char[], int, int)} only has to copy the characters into the resulting strings.
+     *
+     * @return the encoded properties
+     */
+    char[] toSnapshot() {
+        State state = read();
+        List<Map.Entry<String, Property>> properties = new ArrayList<>(state.properties.size());
+        int length = 2;
+        for (String comment : state.headerComments) {
+            length += 2 + comment.length();
+        }
+        length += 2;
+        for (String key : state.order.values()) {
+            Property property = state.properties.get(key);
+            if (property == null) {
+                continue;
+            }
+            properties.add(new AbstractMap.SimpleImmutableEntry<>(key, property));
+            length += 2 + key.length() + 2 + property.value.length() + 2;
+            for (String comment : property.comments) {
+                length += 2 + comment.length();
+            }
+        }
+
+        char[] chars = new char[length];
+        int pos = putInt(chars, 0, state.headerComments.size());
+        for (String comment : state.headerComments) {
+            pos = putString(chars, pos, comment);
+        }
+        pos = putInt(chars, pos, properties.size());
+        for (Map.Entry<String, Property> entry : properties) {
+            pos = putString(chars, pos, entry.getKey());
+            pos = putString(chars, pos, entry.getValue().value);
+            pos = putInt(chars, pos, entry.getValue().comments.size());
+            for (String comment : entry.getValue().comments) {
+                pos = putString(chars, pos, comment);
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Loads properties that were encoded with {@link #toSnapshot()}.
+     *
+     * @param chars  the encoded properties
+     * @param offset the offset of the first character
+     * @param length the number of characters
+     * @return this
+     * @throws IOException if the encoded properties are malformed
+     */
+    CommentedProperties loadSnapshot(char[] chars, int offset, int length) throws IOException {
+        SnapshotReader reader = new SnapshotReader(chars, offset, offset + length);
+        State state = new State();
+        int headerCount = reader.readInt();
+        List<String> headerComments = new ArrayList<>(Math.min(headerCount, length));
+        for (int i = 0; i < headerCount; i++) {
+            headerComments.add(reader.readString());
+        }
+        int propertyCount = reader.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            String key = reader.readString();
+            String value = reader.readString();
+            int commentCount = reader.readInt();
+            List<String> comments = commentCount == 0 ? Collections.emptyList() : new ArrayList<>(Math.min(commentCount, length));
+            for (int j = 0; j < commentCount; j++) {
+                comments.add(reader.readString());
+            }
+            state.put(key, comments, value);
+        }
+        if (reader.pos != reader.end) {
+            throw new IOException("Config snapshot has trailing data");
+        }
+        state.headerComments = Collections.unmodifiableList(headerComments);
+        publish(state);
+        return this;
+    }
+
+    private static int putInt(char[] chars, int pos, int value) {
+        chars[pos] = (char) (value >>> 16);
+        chars[pos + 1] = (char) value;
+        return pos + 2;
+    }
+
+    private static int putString(char[] chars, int pos, String str) {
+        pos = putInt(chars, pos, str.length());
+        str.getChars(0, str.length(), chars, pos);
+        return pos + str.length();
+    }
+
+    private static class SnapshotReader {
+        private final char[] chars;
+        private final int end;
+        private int pos;
+
+        private SnapshotReader(char[] chars, int pos, int end) {
+            this.chars = chars;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        private int readInt() throws IOException {
+            if (end - pos < 2) {
+                throw new IOException("Config snapshot is truncated");
+            }
+            int value = (chars[pos] << 16) | chars[pos + 1];
+            pos += 2;
+            if (value < 0) {
+                throw new IOException("Config snapshot is corrupted");
+            }
+            return value;
+        }
+
+        private String readString() throws IOException {
+            int length = readInt();
+            if (end - pos < length) {
+                throw new IOException("Config snapshot is truncated");
+            }
+            String str = new String(chars, pos, length);
+            pos += length;
+            return str;
+        }
+    }
+
+    /**
+     * Saves the properties to the provided output stream.
+     *
+     * @param outputStream the output stream to write to
+     * @return this
+     */
+    public CommentedProperties save(OutputStream outputStream) {
+        State state = read();
+        List<String> headerComments = state.headerComments;
+        try (PrintWriter writer = new PrintWriter(outputStream)) {
+            for (String comment : headerComments) {
+                writeComment(writer, comment);
+            }
+            if (headerComments.size() > 0) {
+                writer.println();
+            }
+            StringBuilder line = new StringBuilder();
+            char[] lineChars = new char[0];
+            for (String key : state.order.values()) {
+                Property property = state.properties.get(key);
+                if (property == null) {
+                    // The property was removed while saving
+                    continue;
+                }
+                for (String comment : property.comments) {
+                    writeComment(writer, comment);
+                }
+                line.setLength(0);
+                escapeKey(line, key);
+                line.append('=');
+                escapeValue(line, property.value);
+                if (lineChars.length < line.length()) {
+                    lineChars = new char[line.capacity()];
+                }
+                line.getChars(0, line.length(), lineChars, 0);
+                writer.write(lineChars, 0, line.length());
+                writer.println();
+            }
+            writer.flush();
+        }
+        return this;
+    }
+
+    /**
+     * Writes the comment, splitting it into multiple comment lines at every <code>\n</code> or <code>\r\n</code>.
+     * <br/>
+     * Trailing empty lines are omitted.
+     */
+    private static void writeComment(PrintWriter writer, String comment) {
+        int end = comment.length();
+        while (end > 0 && comment.charAt(end - 1) == '\n') {
+            end--;
+            if (end > 0 && comment.charAt(end - 1) == '\r') {
+                end--;
+            }
+        }
+        if (end <= 0 && !comment.isEmpty()) {
+            return;
+        }
+        int start = 0;
+        while (true) {
+            int newLine = comment.indexOf('\n', start);
+            if (newLine < 0 || newLine >= end) {
+                writer.print("# ");
+                writer.write(comment, start, end - start);
+                writer.println();
+                return;
+            }
+            int lineEnd = newLine > start && comment.charAt(newLine - 1) == '\r' ? newLine - 1 : newLine;
+            writer.print("# ");
+            writer.write(comment, start, lineEnd - start);
+            writer.println();
+            start = newLine + 1;
+        }
+    }
+
+    private void escapeKey(StringBuilder out, String str) {
+        escape(out, str, true, true);
+    }
+
+    private void escapeValue(StringBuilder out, String str) {
+        escape(out, str, strict, false);
+    }
+
+    /**
+     * Escapes the provided string in a single pass and appends it to the output.
+     * <br/>
+     * If nothing needs to be escaped, the string is appended unchanged.
+     *
+     * @param out              the output to append to
+     * @param str              the string to escape
+     * @param escapeSeparators whether <code>=</code> and <code>:</code> should be escaped
+     * @param escapeSpaces     whether all spaces should be escaped - if <code>false</code>, only a leading space is escaped
+     */
+    private static void escape(StringBuilder out, String str, boolean escapeSeparators, boolean escapeSpaces) {
+        int length = str.length();
+        int i = 0;
+        while (i < length && !needsEscaping(str.charAt(i), i, escapeSeparators, escapeSpaces)) {
+            i++;
+        }
+        if (i >= length) {
+            out.append(str);
+            return;
+        }
+        out.append(str, 0, i);
+        for (; i < length; i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                case '\r':
+                    out.append("\\n");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '#':
+                case '!':
+                    out.append('\\').append(c);
+                    break;
+                case '=':
+                case ':':
+                    if (escapeSeparators) {
+                        out.append('\\');
+                    }
+                    out.append(c);
+                    break;
+                case ' ':
+                    if (escapeSpaces || i == 0) {
+                        out.append('\\');
+                    }
+                    out.append(c);
+                    break;
+                default:
+                    if (c > 0x7F) {
+                        out.append('\\').append('u')
+                                .append(HEX_DIGITS[(c >> 12) & 0xF])
+                                .append(HEX_DIGITS[(c >> 8) & 0xF])
+                                .append(HEX_DIGITS[(c >> 4) & 0xF])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+    }
+
+    private static boolean needsEscaping(char c, int index, boolean escapeSeparators, boolean escapeSpaces) {
+        switch (c) {
+            case '\\':
+            case '\n':
+            case '\r':
+            case '\t':
+            case '#':
+            case '!':
+                return true;
+            case '=':
+            case ':':
+                return escapeSeparators;
+            case ' ':
+                return escapeSpaces || index == 0;
+            default:
+                return c > 0x7F;
+        }
+    }
+
+    /**
+     * @return the number of properties
+     */
+    @Override
+    public int size() {
+        return read().properties.size();
+    }
+
+    /**
+     * @return true if there are no properties
+     */
+    @Override
+    public boolean isEmpty() {
+        return read().properties.isEmpty();
+    }
+
+    /**
+     * @param key the key
+     * @return if the key is present
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && read().properties.containsKey(key);
+    }
+
+    /**
+     * @param value the value
+     * @return if the value is present
+     * @deprecated this method is not performant and only present to satisfy the Map interface
+     */
+    @Override
+    @Deprecated
+    public boolean containsValue(Object value) {
+        for (Property property : read().properties.values()) {
+            if (property.value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param key the key
+     * @return the value or <code>null</code> if the key is not a string
+     * @deprecated use {@link #get(String)} instead
+     */
+    @Override
+    @Nullable
+    @Deprecated
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        return get((String) key);
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value
+     * @return the previous value or <code>null</code> if there was no previous value
+     * @deprecated use {@link #set(String, String, String...)}} instead
+     */
+    @Override
+    @Deprecated
+    public String put(String key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Property[] previous = new Property[1];
+        modify(state -> previous[0] = state.put(key, Collections.emptyList(), value));
+        if (previous[0] == null) {
+            return null;
+        }
+        return previous[0].value;
+    }
+
+    /**
+     * @param key the key
+     * @return the previous value or <code>null</code> if there was no previous value
+     */
+    @Override
+    public String remove(Object key) {
+        if (!read().properties.containsKey(key)) {
+            return null;
+        }
+        Property[] removed = new Property[1];
+        modify(state -> removed[0] = state.remove(key));
+        if (removed[0] == null) {
+            return null;
+        }
+        return removed[0].value;
+    }
+
+    /**
+     * Adds all the properties from the provided map.
+     *
+     * @param map the map
+     * @deprecated use {@link #set(String, String, String...)} instead
+     */
+    @Override
+    @Deprecated
+    public void putAll(Map<? extends String, ? extends String> map) {
+        edit(() -> {
+            for (Map.Entry<? extends String, ? extends String> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        });
+    }
+
+    /**
+     * Clears all the properties and comments.
+     */
+    @Override
+    public void clear() {
+        publish(new State());
+    }
+
+    /**
+     * The returned set is an unmodifiable view that always reflects the current properties.
+     * Iterating over it never throws a {@link ConcurrentModificationException}.
+     *
+     * @return all property keys
+     */
+    @Override
+    public Set<String> keySet() {
+        return new KeySet();
+    }
+
+    /**
+     * @return all property values
+     * @deprecated this method is not performant and only present to satisfy the Map interface
+     */
+    @Override
+    @Deprecated
+    public Collection<String> values() {
+        State state = read();
+        return state.order.values().stream().map(state.properties::get).filter(Objects::nonNull).map(property -> property.value).collect(Collectors.toList());
+    }
+
+    /**
+     * @return all properties
+     * @deprecated this method is not performant and only present to satisfy the Map interface
+     */
+    @Override
+    @Deprecated
+    public Set<Entry<String, String>> entrySet() {
+        return read().properties.entrySet().stream().map(entry -> new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().value)).collect(Collectors.toSet());
+    }
+
+    private class KeySet extends AbstractSet<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return Collections.unmodifiableCollection(read().order.values()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return read().properties.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o != null && read().properties.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The header comments and properties.
+     * <br/>
+     * The properties are stored in a concurrent map for lookups and a concurrent sorted map that keeps their order.
+     * States are only modified while holding the lock of the {@link CommentedProperties}.
+     */
+    private static class State {
+        private volatile List<String> headerComments;
+        private final ConcurrentHashMap<String, Property> properties;
+        private final ConcurrentSkipListMap<Long, String> order;
+        private long nextOrder;
+
+        private State() {
+            this.headerComments = Collections.emptyList();
+            this.properties = new ConcurrentHashMap<>();
+            this.order = new ConcurrentSkipListMap<>();
+        }
+
+        /**
+         * Adds or replaces the property, keeping the position of replaced properties.
+         *
+         * @return the previous property or <code>null</code> if there was none
+         */
+        @Nullable
+        private Property put(String key, List<String> comments, String value) {
+            Property previous = properties.get(key);
+            long position = previous == null ? nextOrder++ : previous.order;
+            properties.put(key, new Property(comments, value, position));
+            if (previous == null) {
+                order.put(position, key);
+            }
+            return previous;
+        }
+
+        @Nullable
+        private Property remove(Object key) {
+            Property removed = properties.remove(key);
+            if (removed != null) {
+                order.remove(removed.order);
+            }
+            return removed;
+        }
+
+        private State copy() {
+            State copy = new State();
+            copy.headerComments = headerComments;
+            copy.properties.putAll(properties);
+            copy.order.putAll(order);
+            copy.nextOrder = nextOrder;
+            return copy;
+        }
+    }
+
+    protected static class Property {
+        private final List<String> comments;
+        private final String value;
+        /**
+         * The position of the property, which is only used for ordering.
+         */
+        private final long order;
+
+        public Property(List<String> comments, String value) {
+            this(comments, value, 0L);
+        }
+
+        public Property(String value) {
+            this(Collections.emptyList(), value);
+        }
+
+        private Property(List<String> comments, String value, long order) {
+            this.comments = comments.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(comments);
+            this.value = value;
+            this.order = order;
+        }
+    }
+
+}
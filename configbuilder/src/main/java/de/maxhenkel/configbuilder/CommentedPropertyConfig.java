@@ -0,0 +1,767 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.AbstractConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntryListener;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.*;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class CommentedPropertyConfig implements Config {
+
+    private static final Logger LOGGER = Logger.getLogger(CommentedPropertyConfig.class.getName());
+
+    protected CommentedProperties properties;
+    @Nullable
+    protected Path path;
+    protected boolean fileChannelLoading;
+    protected SaveDurability durability;
+    protected SaveScheduler saveScheduler;
+    protected Duration saveDelay;
+    protected boolean lazyDeserialization;
+    protected boolean snapshotCache;
+    protected Executor listenerExecutor;
+    @Nullable
+    protected ConfigMetrics metrics;
+    /**
+     * Reloads the config and all of its entries when {@link ConfigWatcher} detects a modification of the file.
+     */
+    @Nullable
+    volatile Runnable reloadFromDisk;
+    /**
+     * Prevents concurrent saves of this config.
+     * <br/>
+     * This is not a monitor, so that saves on virtual threads don't pin their carrier thread while blocking on file I/O.
+     */
+    private final ReentrantLock saveLock;
+    @Nullable
+    private FileTime knownModifiedTime;
+    private long knownSize;
+    private final List<ConfigListener> listeners;
+    /**
+     * The changes of the batch that is currently running on this thread.
+     */
+    private final ThreadLocal<Map<ConfigEntry<?>, ConfigChange<?>>> batch;
+
+    protected CommentedPropertyConfig(CommentedProperties properties) {
+        this.properties = properties;
+        this.listenerExecutor = Runnable::run;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.batch = new ThreadLocal<>();
+        this.saveLock = new ReentrantLock();
+    }
+
+    /**
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        @Nullable
+        private Path path;
+        private boolean strict;
+        private boolean fileChannelLoading;
+        private SaveDurability durability;
+        private SaveScheduler saveScheduler;
+        private Duration saveDelay;
+        private boolean lazyDeserialization;
+        private boolean snapshotCache;
+        private Executor listenerExecutor;
+        @Nullable
+        private ConfigMetrics metrics;
+
+        private Builder() {
+            strict = true;
+            fileChannelLoading = false;
+            durability = SaveDurability.SYNC_FILE;
+            saveScheduler = SaveScheduler.getDefault();
+            saveDelay = Duration.ZERO;
+            lazyDeserialization = false;
+            snapshotCache = false;
+            listenerExecutor = Runnable::run;
+        }
+
+        /**
+         * Sets the path to the config.
+         * <br/>
+         * If this value is not set, the config will be in-memory only and not saved to disk.
+         *
+         * @param path the path
+         * @return the builder
+         */
+        public Builder path(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * A strict config is compliant to Javas {@link java.util.Properties} class.
+         * <br/>
+         * This value is <code>true</code> by default.
+         *
+         * @param strict whether the config should be strict
+         * @return the builder
+         */
+        public Builder strict(boolean strict) {
+            this.strict = strict;
+            return this;
+        }
+
+        /**
+         * Loads the config through a {@link java.nio.channels.FileChannel} instead of an input stream.
+         * <br/>
+         * Strict configs are decoded with ISO-8859-1, other configs are decoded with UTF-8 instead of the platform default charset.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param fileChannelLoading whether the config should be loaded through a file channel
+         * @return the builder
+         */
+        public Builder fileChannelLoading(boolean fileChannelLoading) {
+            this.fileChannelLoading = fileChannelLoading;
+            return this;
+        }
+
+        /**
+         * Sets how durable saving the config should be.
+         * <br/>
+         * This value is {@link SaveDurability#SYNC_FILE} by default.
+         *
+         * @param durability the save durability
+         * @return the builder
+         */
+        public Builder durability(SaveDurability durability) {
+            this.durability = Objects.requireNonNull(durability);
+            return this;
+        }
+
+        /**
+         * Sets the scheduler that executes asynchronous saves.
+         * <br/>
+         * This value is {@link SaveScheduler#getDefault()} by default.
+         *
+         * @param saveScheduler the save scheduler
+         * @return the builder
+         */
+        public Builder saveScheduler(SaveScheduler saveScheduler) {
+            this.saveScheduler = Objects.requireNonNull(saveScheduler);
+            return this;
+        }
+
+        /**
+         * Executes asynchronous saves on the provided executor, for example a thread pool of the application.
+         * <br/>
+         * This is a shortcut for {@link #saveScheduler(SaveScheduler)} with a new {@link SaveScheduler#SaveScheduler(java.util.concurrent.Executor)}.
+         * Saves of the same file are still executed one after another.
+         * Note that the executor is not shut down by the config.
+         *
+         * @param saveExecutor the executor that executes the saves
+         * @return the builder
+         */
+        public Builder saveExecutor(Executor saveExecutor) {
+            this.saveScheduler = new SaveScheduler(saveExecutor);
+            return this;
+        }
+
+        /**
+         * Delays asynchronous saves by the provided duration.
+         * <br/>
+         * All saves that are requested within this duration are coalesced into a single write.
+         * <br/>
+         * This value is {@link Duration#ZERO} by default.
+         *
+         * @param saveDelay the save delay
+         * @return the builder
+         */
+        public Builder saveDelay(Duration saveDelay) {
+            if (saveDelay.isNegative()) {
+                throw new IllegalArgumentException("Save delay can't be negative");
+            }
+            this.saveDelay = saveDelay;
+            return this;
+        }
+
+        /**
+         * Whether config entries should only be deserialized when they are accessed for the first time.
+         * <br/>
+         * Until then, the value is kept as it was loaded from the file.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param lazyDeserialization if entries should be deserialized lazily
+         * @return the builder
+         */
+        public Builder lazyDeserialization(boolean lazyDeserialization) {
+            this.lazyDeserialization = lazyDeserialization;
+            return this;
+        }
+
+        /**
+         * Caches the parsed config in a binary snapshot file next to the config file.
+         * <br/>
+         * The snapshot is loaded instead of parsing the config file as long as the size, modification time and checksum of the config file match.
+         * Otherwise, the config file is parsed and the snapshot is rewritten.
+         * This speeds up loading large config files, since the snapshot doesn't have to be parsed or unescaped.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param snapshotCache if the parsed config should be cached
+         * @return the builder
+         */
+        public Builder snapshotCache(boolean snapshotCache) {
+            this.snapshotCache = snapshotCache;
+            return this;
+        }
+
+        /**
+         * Sets the executor that notifies the change listeners of the config and its entries.
+         * <br/>
+         * All changes of a batch are delivered in a single task.
+         * Note that batches might be delivered out of order if the executor runs tasks concurrently.
+         * <br/>
+         * Listeners are notified on the thread that changed the config by default.
+         *
+         * @param listenerExecutor the listener executor
+         * @return the builder
+         */
+        public Builder listenerExecutor(Executor listenerExecutor) {
+            this.listenerExecutor = Objects.requireNonNull(listenerExecutor);
+            return this;
+        }
+
+        /**
+         * Reports timings and sizes of loads, saves and value serializers to the provided metrics.
+         * <br/>
+         * This value is <code>null</code> by default, which means that nothing is measured.
+         *
+         * @param metrics the metrics or <code>null</code> to not measure anything
+         * @return the builder
+         */
+        public Builder metrics(@Nullable ConfigMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return the config
+         */
+        public CommentedPropertyConfig build() {
+            CommentedPropertyConfig config = new CommentedPropertyConfig(new CommentedProperties(strict));
+            config.fileChannelLoading = fileChannelLoading;
+            config.durability = durability;
+            config.saveScheduler = saveScheduler;
+            config.saveDelay = saveDelay;
+            config.lazyDeserialization = lazyDeserialization;
+            config.snapshotCache = snapshotCache;
+            config.listenerExecutor = listenerExecutor;
+            config.metrics = metrics;
+            if (path != null) {
+                config.path = path.toAbsolutePath();
+            }
+            config.reload();
+            return config;
+        }
+    }
+
+    /**
+     * @param key the config key
+     * @return the string representation of the value or <code>null</code> if the entry does not exist
+     */
+    public String get(String key) {
+        return properties.get(key);
+    }
+
+    /**
+     * @param key      the config key
+     * @param value    the config string value
+     * @param comments the comments for the config entry
+     */
+    public void set(String key, String value, String... comments) {
+        properties.set(key, value, comments);
+    }
+
+    /**
+     * @return the commented properties
+     */
+    public CommentedProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Loads the config from the disk if the path is set and the file exists.
+     *
+     * @throws IOException if an IO error occurs
+     */
+    public void load() throws IOException {
+        load(properties);
+    }
+
+    private void load(CommentedProperties target) throws IOException {
+        if (path == null) {
+            return;
+        }
+        if (!Files.exists(path)) {
+            return;
+        }
+        ConfigMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object event = ConfigEvents.beginLoad();
+        rememberFileState(path);
+        loadFile(target, path);
+        ConfigEvents.commitLoad(event, path, knownSize, target.size());
+        if (metrics != null) {
+            metrics.onLoad(path, System.nanoTime() - start, knownSize, target.size());
+        }
+    }
+
+    private void loadFile(CommentedProperties target, Path path) throws IOException {
+        if (snapshotCache) {
+            // Files that are loaded through an input stream are decoded with the platform default charset
+            PropertiesSnapshot.load(target, path, fileChannelLoading ? target.charset() : Charset.defaultCharset());
+            return;
+        }
+        if (fileChannelLoading) {
+            target.load(path);
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            target.load(inputStream);
+        }
+    }
+
+    /**
+     * Reloads all entries from the disk.
+     * <br/>
+     * The loaded entries replace the current entries at once, so concurrent readers never see an empty or partially loaded config.
+     * If the file doesn't exist, the config is cleared.
+     */
+    public void reload() {
+        CommentedProperties loaded = readFromDisk();
+        if (loaded != null) {
+            properties.replace(loaded);
+        }
+    }
+
+    /**
+     * Reads and parses the config file into new properties without locking the current properties,
+     * so that concurrent modifications are not blocked by reading the file.
+     * <br/>
+     * The result can be published with {@link CommentedProperties#replace(CommentedProperties)}.
+     *
+     * @return the loaded properties, empty properties if the file doesn't exist or <code>null</code> if the file could not be read
+     */
+    @Nullable
+    CommentedProperties readFromDisk() {
+        Object event = ConfigEvents.beginReload();
+        CommentedProperties loaded = new CommentedProperties(properties.isStrict());
+        try {
+            load(loaded);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to reload config", e);
+            loaded = null;
+        }
+        ConfigEvents.commitReload(event, path, loaded == null ? properties.size() : loaded.size());
+        return loaded;
+    }
+
+    /**
+     * Saves the config to the disk synchronously.
+     * <br/>
+     * The config is written to a temporary file in the same directory, which then atomically replaces the config file.
+     * <br/>
+     * Note that this method blocks the current thread until the config is saved.
+     * <br/>
+     * The file is not written if it already has the same contents.
+     */
+    public void saveSync() {
+        if (path == null) {
+            return;
+        }
+        saveLock.lock();
+        try {
+            write();
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    private void write() {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to create parent directories of config", e);
+        }
+
+        ConfigMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object event = ConfigEvents.beginSave();
+        Path tempFile = null;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            properties.save(out);
+            byte[] content = out.toByteArray();
+
+            Path target = Files.isSymbolicLink(path) ? path.toRealPath() : path;
+            if (isUnchanged(target, content)) {
+                rememberFileState(target);
+                ConfigEvents.commitSave(event, path, 0L, properties.size());
+                if (metrics != null) {
+                    metrics.onSave(path, System.nanoTime() - start, 0L);
+                }
+                return;
+            }
+            tempFile = target.resolveSibling(String.format(".%s.tmp", target.getFileName()));
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                // The permissions are copied before writing, so the content is never readable with weaker permissions
+                copyPermissions(target, tempFile);
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (durability != SaveDurability.NONE) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+            rememberFileState(target);
+            if (durability == SaveDurability.SYNC_FILE_AND_DIRECTORY) {
+                syncDirectory(target.toAbsolutePath().getParent());
+            }
+            ConfigEvents.commitSave(event, path, content.length, properties.size());
+            if (metrics != null) {
+                metrics.onSave(path, System.nanoTime() - start, content.length);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to save config", e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to delete temporary config file", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the file already contains exactly the provided content, so that writing it can be skipped.
+     *
+     * @param file    the file
+     * @param content the rendered config
+     * @return if the file has the same content
+     */
+    private static boolean isUnchanged(Path file, byte[] content) {
+        try {
+            if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+                return false;
+            }
+            return Arrays.equals(Files.readAllBytes(file), content);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void rememberFileState(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            knownModifiedTime = attributes.lastModifiedTime();
+            knownSize = attributes.size();
+        } catch (IOException e) {
+            knownModifiedTime = null;
+        }
+    }
+
+    /**
+     * Checks if the config file was modified since it was last loaded or saved by this config.
+     * <br/>
+     * This is used to avoid reloading the config after it was saved by itself.
+     *
+     * @return if the file was modified by someone else
+     */
+    boolean isModifiedOnDisk() {
+        if (path == null || !Files.exists(path)) {
+            return false;
+        }
+        saveLock.lock();
+        try {
+            if (knownModifiedTime == null) {
+                return true;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return !knownModifiedTime.equals(attributes.lastModifiedTime()) || knownSize != attributes.size();
+        } catch (IOException e) {
+            return false;
+        } finally {
+            saveLock.unlock();
+        }
+    }
+
+    /**
+     * Copies the POSIX permissions or the ACL of the config file to the temporary file that replaces it,
+     * so that saving the config doesn't change who can access it.
+     *
+     * @param file     the config file
+     * @param tempFile the temporary file
+     */
+    private static void copyPermissions(Path file, Path tempFile) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            PosixFileAttributeView posix = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+            if (posix != null) {
+                Files.setPosixFilePermissions(tempFile, posix.readAttributes().permissions());
+                return;
+            }
+            AclFileAttributeView acl = Files.getFileAttributeView(file, AclFileAttributeView.class);
+            AclFileAttributeView tempAcl = Files.getFileAttributeView(tempFile, AclFileAttributeView.class);
+            if (acl != null && tempAcl != null) {
+                tempAcl.setAcl(acl.getAcl());
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.log(Level.WARNING, "Failed to copy the permissions of the config file", e);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms (for example Windows) don't support opening or syncing directories
+            LOGGER.log(Level.FINE, "Failed to sync config directory", e);
+        }
+    }
+
+    /**
+     * Saves the config to the disk asynchronously.
+     * <br/>
+     * Saves of the same file that are requested before the pending save was executed are coalesced into a single write.
+     * <br/>
+     * Note that reloading the config immediately after saving it asynchronously may cause issues.
+     */
+    public void save() {
+        if (path == null) {
+            return;
+        }
+        saveScheduler.schedule(this);
+    }
+
+    /**
+     * Adds a listener that is notified when the values of config entries change.
+     *
+     * @param listener the listener
+     */
+    public void addListener(ConfigListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * @param listener the listener to remove
+     */
+    public void removeListener(ConfigListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return if this config has any listeners
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Runs the provided action as a batch.
+     * <br/>
+     * The listeners are notified about all changes of the batch at once after the action completed.
+     * Multiple changes of the same entry are merged into a single change and entries that have their original value again are omitted.
+     * Batches can be nested, in which case the listeners are notified after the outermost batch completed.
+     * If the action throws an exception, the listeners are not notified.
+     *
+     * @param action the action
+     */
+    public void batch(Runnable action) {
+        batch(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the provided action as a batch.
+     * <br/>
+     * See {@link #batch(Runnable)}.
+     *
+     * @param action the action
+     * @param <T>    the result type
+     * @return the result of the action
+     */
+    public <T> T batch(Supplier<T> action) {
+        if (batch.get() != null) {
+            return action.get();
+        }
+        Map<ConfigEntry<?>, ConfigChange<?>> changes = new LinkedHashMap<>();
+        batch.set(changes);
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            batch.remove();
+        }
+        dispatch(changes.values());
+        return result;
+    }
+
+    /**
+     * Changes multiple entries at once.
+     * <br/>
+     * The changes are staged in the transaction and only applied after the action completed.
+     * Every changed entry is serialized once and the changed properties are published at once,
+     * so concurrent readers of the properties never see a partially applied transaction.
+     * The entries only get their new values after the properties were published.
+     * The listeners are notified about all changes in a single batch and the config is saved once.
+     * If the action throws an exception or a value can't be serialized, none of the changes are applied.
+     * <br/>
+     * Example:
+     * <pre>{@code
+     * config.update(transaction -> transaction
+     *         .set(myConfig.name, "Name")
+     *         .set(myConfig.size, 10)
+     * );
+     * }</pre>
+     *
+     * @param action the action that stages the changes
+     */
+    public void update(Consumer<ConfigTransaction> action) {
+        ConfigTransaction transaction = new ConfigTransaction(this);
+        action.accept(transaction);
+        if (transaction.isEmpty()) {
+            return;
+        }
+        batch(transaction::apply);
+        save();
+    }
+
+    /**
+     * Records a change of the value of the provided entry.
+     * <br/>
+     * This is called by the config entries and only has an effect while a {@link #batch(Runnable) batch} is running.
+     *
+     * @param entry    the changed entry
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     * @param <T>      the type of the value
+     */
+    public <T> void recordChange(AbstractConfigEntry<T> entry, T oldValue, T newValue) {
+        Map<ConfigEntry<?>, ConfigChange<?>> changes = batch.get();
+        if (changes == null) {
+            return;
+        }
+        ConfigChange<T> previous = (ConfigChange<T>) changes.get(entry);
+        changes.put(entry, new ConfigChange<>(entry, previous == null ? oldValue : previous.getOldValue(), newValue));
+    }
+
+    private void dispatch(Collection<ConfigChange<?>> changes) {
+        List<ConfigChange<?>> actualChanges = new ArrayList<>(changes.size());
+        for (ConfigChange<?> change : changes) {
+            if (!isSameValue(change)) {
+                actualChanges.add(change);
+            }
+        }
+        if (actualChanges.isEmpty()) {
+            return;
+        }
+        List<ConfigChange<?>> unmodifiableChanges = Collections.unmodifiableList(actualChanges);
+        try {
+            listenerExecutor.execute(() -> notifyListeners(unmodifiableChanges));
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, "Failed to notify config listeners", e);
+        }
+    }
+
+    private static <T> boolean isSameValue(ConfigChange<T> change) {
+        ConfigEntry<T> entry = change.getEntry();
+        if (entry instanceof AbstractConfigEntry) {
+            return ((AbstractConfigEntry<T>) entry).isSameValue(change.getOldValue(), change.getNewValue());
+        }
+        return Objects.equals(change.getOldValue(), change.getNewValue());
+    }
+
+    private void notifyListeners(List<ConfigChange<?>> changes) {
+        for (ConfigChange<?> change : changes) {
+            notifyEntryListeners(change);
+        }
+        for (ConfigListener listener : listeners) {
+            try {
+                listener.onChange(changes);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Failed to notify config listener", e);
+            }
+        }
+    }
+
+    private static <T> void notifyEntryListeners(ConfigChange<T> change) {
+        for (ConfigEntryListener<T> listener : ((AbstractConfigEntry<T>) change.getEntry()).getListeners()) {
+            try {
+                listener.onChange(change);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Failed to notify config entry listener", e);
+            }
+        }
+    }
+
+    /**
+     * @return if config entries are only deserialized when they are accessed for the first time
+     */
+    public boolean isLazyDeserialization() {
+        return lazyDeserialization;
+    }
+
+    /**
+     * @return the metrics of this config or <code>null</code> if nothing is measured
+     */
+    @Nullable
+    public ConfigMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the scheduler that executes asynchronous saves of this config
+     */
+    public SaveScheduler getSaveScheduler() {
+        return saveScheduler;
+    }
+
+    @Override
+    public Map<String, String> getEntries() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+}
@@ -0,0 +1,141 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.AbstractConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binds the fields of a plain class or the components of a record to config entries.
+ * <br/>
+ * Every non-static and non-transient field of a class or every component of a record is an entry.
+ * The default values are the values of an instance that is created with the constructor without parameters,
+ * so records need to declare an additional constructor without parameters that provides the default values.
+ * <br/>
+ * The keys, comments and ranges of the entries can be configured with {@link de.maxhenkel.configbuilder.annotation.ConfigValue} and {@link de.maxhenkel.configbuilder.annotation.Range},
+ * the header of the config with {@link de.maxhenkel.configbuilder.annotation.ConfigClass}.
+ * <br/>
+ * The members of a class are only looked up once and accessed through method handles afterwards.
+ * The entries are regular config entries, so accessing them is as fast as accessing entries that were created with a {@link ConfigBuilder}.
+ * <br/>
+ * Example:
+ * <pre>{@code
+ * public class ServerConfig {
+ *     @Range(min = 1, max = 65535)
+ *     public int port = 25565;
+ * }
+ *
+ * ConfigBinding<ServerConfig> config = ConfigBinding.builder(ServerConfig.class).path(Paths.get("server.properties")).build();
+ * ConfigEntry<Integer> port = config.getEntry("port");
+ * ServerConfig values = config.get();
+ * }</pre>
+ *
+ * @param <T> the bound type
+ */
+public class ConfigBinding<T> {
+
+    private final BindingModel<T> model;
+    private final ConfigEntry<?>[] entries;
+
+    private ConfigBinding(BindingModel<T> model, ConfigEntry<?>[] entries) {
+        this.model = model;
+        this.entries = entries;
+    }
+
+    /**
+     * Adds an entry for every member of the provided type.
+     *
+     * @param builder the config builder
+     * @param type    the type to bind
+     * @param <T>     the bound type
+     * @return the binding
+     * @throws IllegalArgumentException if the type can't be bound or a member has an unsupported type
+     */
+    public static <T> ConfigBinding<T> bind(ConfigBuilder builder, Class<T> type) {
+        BindingModel<T> model = BindingModel.of(type);
+        if (model.header.length > 0) {
+            builder.header(model.header);
+        }
+        T defaults = model.newInstance();
+        ConfigEntry<?>[] entries = new ConfigEntry<?>[model.members.length];
+        for (int i = 0; i < entries.length; i++) {
+            BindingModel.Member member = model.members[i];
+            entries[i] = member.createEntry(builder, member.get(defaults));
+        }
+        return new ConfigBinding<>(model, entries);
+    }
+
+    /**
+     * Creates a new builder to build a config that is bound to the provided type.
+     *
+     * @param type the type to bind
+     * @param <T>  the bound type
+     * @return the builder
+     */
+    public static <T> ConfigBuilder.Builder<ConfigBinding<T>> builder(Class<T> type) {
+        return ConfigBuilder.builder(builder -> bind(builder, type));
+    }
+
+    /**
+     * @return the bound type
+     */
+    public Class<T> getType() {
+        return model.type;
+    }
+
+    /**
+     * @param name the name of the field or record component
+     * @param <V>  the type of the value
+     * @return the entry of the member
+     * @throws IllegalArgumentException if there is no member with this name
+     */
+    public <V> ConfigEntry<V> getEntry(String name) {
+        Integer index = model.indices.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("%s has no config entry %s", model.type.getName(), name));
+        }
+        return (ConfigEntry<V>) entries[index];
+    }
+
+    /**
+     * @return the entries of all members in declaration order
+     */
+    public List<ConfigEntry<?>> getEntries() {
+        return Collections.unmodifiableList(Arrays.asList(entries));
+    }
+
+    /**
+     * @return a new instance with the current values of all entries
+     */
+    public T get() {
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = entries[i].get();
+        }
+        return model.newInstance(values);
+    }
+
+    /**
+     * Sets all entries to the values of the provided instance in a single transaction and saves the config asynchronously.
+     *
+     * @param value the instance
+     * @see CommentedPropertyConfig#update(java.util.function.Consumer)
+     */
+    public void update(T value) {
+        if (entries.length <= 0) {
+            return;
+        }
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = model.members[i].get(value);
+        }
+        ((AbstractConfigEntry<?>) entries[0]).getConfig().update(transaction -> {
+            for (int i = 0; i < entries.length; i++) {
+                transaction.set((ConfigEntry<Object>) entries[i], values[i]);
+            }
+        });
+    }
+
+}
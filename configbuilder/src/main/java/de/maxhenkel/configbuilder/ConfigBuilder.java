@@ -0,0 +1,628 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.*;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializable;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+public interface ConfigBuilder {
+
+    /**
+     * Sets header comments for the config.
+     * <br/>
+     * Calling this method multiple times will overwrite the previous header.
+     *
+     * @param header The header comments
+     * @return the config builder
+     */
+    ConfigBuilder header(String... header);
+
+    /**
+     * Adds a string entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    BooleanConfigEntry booleanEntry(String key, Boolean def, String... comments);
+
+    /**
+     * Adds an integer entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param min      the minimum value
+     * @param max      the maximum value
+     * @param comments the comments
+     * @return the config entry
+     */
+    IntegerConfigEntry integerEntry(String key, Integer def, Integer min, Integer max, String... comments);
+
+    /**
+     * Adds an integer entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    default IntegerConfigEntry integerEntry(String key, Integer def, String... comments) {
+        return integerEntry(key, def, null, null, comments);
+    }
+
+    /**
+     * Adds a long entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param min      the minimum value
+     * @param max      the maximum value
+     * @param comments the comments
+     * @return the config entry
+     */
+    LongConfigEntry longEntry(String key, Long def, Long min, Long max, String... comments);
+
+    /**
+     * Adds a long entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    default LongConfigEntry longEntry(String key, Long def, String... comments) {
+        return longEntry(key, def, null, null, comments);
+    }
+
+    /**
+     * Adds a double entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param min      the minimum value
+     * @param max      the maximum value
+     * @param comments the comments
+     * @return the config entry
+     */
+    DoubleConfigEntry doubleEntry(String key, Double def, Double min, Double max, String... comments);
+
+    /**
+     * Adds a double entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    default DoubleConfigEntry doubleEntry(String key, Double def, String... comments) {
+        return doubleEntry(key, def, null, null, comments);
+    }
+
+    /**
+     * Adds a float entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param min      the minimum value
+     * @param max      the maximum value
+     * @param comments the comments
+     * @return the config entry
+     */
+    FloatConfigEntry floatEntry(String key, Float def, Float min, Float max, String... comments);
+
+    /**
+     * Adds a float entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    default FloatConfigEntry floatEntry(String key, Float def, String... comments) {
+        return floatEntry(key, def, null, null, comments);
+    }
+
+    /**
+     * Adds a string entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @return the config entry
+     */
+    StringConfigEntry stringEntry(String key, String def, String... comments);
+
+    /**
+     * Adds an enum entry.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @param <E>      the enum type
+     * @return the config entry
+     */
+    <E extends Enum<E>> EnumConfigEntry<E> enumEntry(String key, E def, String... comments);
+
+    /**
+     * Adds an entry for the given type.
+     * <br/>
+     * You can add custom types by implementing an {@link ValueSerializer} and annotating the type with {@link ValueSerializable}.
+     * <br/>
+     * Example:
+     * <pre>{@code
+     * @EntrySerializable(MyTypeSerializer.class)
+     * public class MyType {
+     *     ...
+     * }
+     * public class MyTypeSerializer implements EntrySerializer<MyType> {
+     *     ...
+     * }
+     * }</pre>
+     * <br/>
+     * Note that your {@link ValueSerializer} must have a no-argument constructor, otherwise an {@link IllegalArgumentException} will be thrown.
+     *
+     * @param key      the config key
+     * @param def      the default value
+     * @param comments the comments
+     * @param <T>      the type
+     * @return the config entry
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    <T> ConfigEntry<T> entry(String key, T def, String... comments);
+
+    /**
+     * Adds an entry for the given type that is serialized with the provided serializer.
+     * <br/>
+     * This doesn't need to look up the serializer of the type, which is used by the code generated by the config annotation processor.
+     *
+     * @param key        the config key
+     * @param def        the default value
+     * @param serializer the serializer of the value
+     * @param comments   the comments
+     * @param <T>        the type
+     * @return the config entry
+     * @throws UnsupportedOperationException if the builder doesn't support explicit serializers
+     */
+    default <T> ConfigEntry<T> entry(String key, T def, ValueSerializer<T> serializer, String... comments) {
+        throw new UnsupportedOperationException("Config builder doesn't support explicit serializers");
+    }
+
+    /**
+     * Creates a new builder to build a config.
+     *
+     * @param builderConsumer the builder consumer
+     * @param <C>             your config class
+     * @return the builder
+     */
+    static <C> Builder<C> builder(@Nonnull Function<ConfigBuilder, C> builderConsumer) {
+        return new Builder<>(builderConsumer);
+    }
+
+    /**
+     * Builds a config for every <code>.properties</code> file in the provided directory in parallel on the common fork join pool.
+     *
+     * @param directory the directory containing the config files
+     * @param factory   creates the builder for the provided config file
+     * @param <C>       your config class
+     * @return the built configs and the errors of configs that failed to build
+     * @throws IOException if the directory can't be read
+     * @see #buildAll(Path, Function, Executor)
+     */
+    static <C> ConfigSet<C> buildAll(Path directory, Function<Path, Builder<C>> factory) throws IOException {
+        return buildAll(directory, factory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds a config for every <code>.properties</code> file in the provided directory in parallel.
+     * <br/>
+     * The path of every builder is set to its config file, so the factory doesn't need to set it.
+     * Every config is built independently, so a config that fails to build doesn't affect the other configs.
+     * Configs that the executor rejects are reported as errors as well.
+     * <br/>
+     * Example:
+     * <pre>{@code
+     * ConfigSet<TenantConfig> tenants = ConfigBuilder.buildAll(directory, file -> ConfigBuilder.builder(TenantConfig::new), executor);
+     * }</pre>
+     *
+     * @param directory the directory containing the config files
+     * @param factory   creates the builder for the provided config file
+     * @param executor  the executor that builds the configs
+     * @param <C>       your config class
+     * @return the built configs and the errors of configs that failed to build
+     * @throws IOException if the directory can't be read
+     */
+    static <C> ConfigSet<C> buildAll(Path directory, Function<Path, Builder<C>> factory, Executor executor) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.properties")) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        Collections.sort(files);
+
+        List<CompletableFuture<C>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            CompletableFuture<C> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> factory.apply(file).path(file).build(), executor);
+            } catch (RejectedExecutionException e) {
+                // Bounded or shut down executors reject tasks, which only fails the build of this config
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            futures.add(future);
+        }
+
+        Map<Path, C> configs = new LinkedHashMap<>();
+        Map<Path, Throwable> errors = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                configs.put(files.get(i), futures.get(i).join());
+            } catch (CompletionException e) {
+                errors.put(files.get(i), e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        return new ConfigSet<>(configs, errors);
+    }
+
+    class Builder<C> {
+        @Nonnull
+        private final Function<ConfigBuilder, C> builderConsumer;
+        @Nullable
+        private Path path;
+        private final Map<Class<?>, ValueSerializer<?>> valueSerializers;
+        private boolean removeUnused;
+        private boolean strict;
+        private boolean keepOrder;
+        private boolean saveAfterBuild;
+        private boolean saveSyncAfterBuild;
+        private boolean fileChannelLoading;
+        private SaveDurability durability;
+        private SaveScheduler saveScheduler;
+        private Duration saveDelay;
+        private boolean lazyDeserialization;
+        private boolean snapshotCache;
+        private Executor listenerExecutor;
+        private final List<ConfigListener> listeners;
+        @Nullable
+        private ConfigMetrics metrics;
+        @Nullable
+        private ConfigWatcher watcher;
+
+        private Builder(@Nonnull Function<ConfigBuilder, C> builderConsumer) {
+            this.builderConsumer = builderConsumer;
+            this.valueSerializers = new HashMap<>();
+            this.removeUnused = true;
+            this.strict = false;
+            this.keepOrder = true;
+            this.saveAfterBuild = true;
+            this.saveSyncAfterBuild = false;
+            this.fileChannelLoading = false;
+            this.durability = SaveDurability.SYNC_FILE;
+            this.saveScheduler = SaveScheduler.getDefault();
+            this.saveDelay = Duration.ZERO;
+            this.lazyDeserialization = false;
+            this.snapshotCache = false;
+            this.listenerExecutor = Runnable::run;
+            this.listeners = new ArrayList<>();
+        }
+
+        /**
+         * If the path is not specified, the config will be in-memory only and not saved anywhere.
+         *
+         * @param path the storage location of the config file
+         * @return the builder
+         */
+        public Builder<C> path(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * Adds a custom value serializer for the given type.
+         * <br/>
+         * Custom value serializers can override the default built-in serializers.
+         *
+         * @param type       the type to serialize
+         * @param serializer the serializer for the given type
+         * @param <T>        the type
+         * @return the builder
+         */
+        public <T> Builder<C> addValueSerializer(Class<T> type, ValueSerializer<T> serializer) {
+            valueSerializers.put(type, serializer);
+            return this;
+        }
+
+        /**
+         * This value is <code>true</code> by default.
+         *
+         * @param removeUnused whether unused entries should be removed
+         * @return the builder
+         */
+        public Builder<C> removeUnused(boolean removeUnused) {
+            this.removeUnused = removeUnused;
+            return this;
+        }
+
+        /**
+         * A strict config behaves exactly like Javas {@link java.util.Properties} implementation.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param strict whether the config should be strict
+         * @return the builder
+         */
+        public Builder<C> strict(boolean strict) {
+            this.strict = strict;
+            return this;
+        }
+
+        /**
+         * This will only get applied to the config file if {@link #saveAfterBuild} is true or the config is saved manually.
+         * <br/>
+         * This value is <code>true</code> by default.
+         *
+         * @param keepOrder whether the config should keep the order of the entries
+         * @return the builder
+         */
+        public Builder<C> keepOrder(boolean keepOrder) {
+            this.keepOrder = keepOrder;
+            return this;
+        }
+
+        /**
+         * This value is <code>true</code> by default.
+         * <br/>
+         * Setting this to <code>true</code> will set {@link #saveSyncAfterBuild} to <code>false</code>.
+         *
+         * @param saveAfterBuild whether the config should be saved asynchronously after building
+         * @return the builder
+         */
+        public Builder<C> saveAfterBuild(boolean saveAfterBuild) {
+            this.saveAfterBuild = saveAfterBuild;
+            if (saveAfterBuild) {
+                saveSyncAfterBuild = false;
+            }
+            return this;
+        }
+
+        /**
+         * This value is <code>false</code> by default.
+         * <br/>
+         * Setting this to <code>true</code> will set {@link #saveAfterBuild} to <code>false</code>.
+         *
+         * @param saveSyncAfterBuild whether the config should be saved synchronously after building
+         * @return the builder
+         */
+        public Builder<C> saveSyncAfterBuild(boolean saveSyncAfterBuild) {
+            this.saveSyncAfterBuild = saveSyncAfterBuild;
+            if (saveSyncAfterBuild) {
+                saveAfterBuild = false;
+            }
+            return this;
+        }
+
+        /**
+         * Loads the config file through a {@link java.nio.channels.FileChannel} instead of an input stream.
+         * <br/>
+         * Strict configs are decoded with ISO-8859-1, other configs are decoded with UTF-8 instead of the platform default charset.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param fileChannelLoading whether the config should be loaded through a file channel
+         * @return the builder
+         */
+        public Builder<C> fileChannelLoading(boolean fileChannelLoading) {
+            this.fileChannelLoading = fileChannelLoading;
+            return this;
+        }
+
+        /**
+         * Sets how durable saving the config should be.
+         * <br/>
+         * This value is {@link SaveDurability#SYNC_FILE} by default.
+         *
+         * @param durability the save durability
+         * @return the builder
+         */
+        public Builder<C> durability(SaveDurability durability) {
+            this.durability = Objects.requireNonNull(durability);
+            return this;
+        }
+
+        /**
+         * Sets the scheduler that executes asynchronous saves.
+         * <br/>
+         * This value is {@link SaveScheduler#getDefault()} by default.
+         *
+         * @param saveScheduler the save scheduler
+         * @return the builder
+         */
+        public Builder<C> saveScheduler(SaveScheduler saveScheduler) {
+            this.saveScheduler = Objects.requireNonNull(saveScheduler);
+            return this;
+        }
+
+        /**
+         * Executes asynchronous saves on the provided executor, for example a thread pool of the application.
+         * <br/>
+         * This is a shortcut for {@link #saveScheduler(SaveScheduler)} with a new {@link SaveScheduler#SaveScheduler(java.util.concurrent.Executor)}.
+         * Saves of the same file are still executed one after another.
+         * Note that the executor is not shut down by the config.
+         *
+         * @param saveExecutor the executor that executes the saves
+         * @return the builder
+         */
+        public Builder<C> saveExecutor(Executor saveExecutor) {
+            this.saveScheduler = new SaveScheduler(saveExecutor);
+            return this;
+        }
+
+        /**
+         * Delays asynchronous saves by the provided duration.
+         * <br/>
+         * All saves that are requested within this duration are coalesced into a single write.
+         * <br/>
+         * This value is {@link Duration#ZERO} by default.
+         *
+         * @param saveDelay the save delay
+         * @return the builder
+         */
+        public Builder<C> saveDelay(Duration saveDelay) {
+            this.saveDelay = Objects.requireNonNull(saveDelay);
+            return this;
+        }
+
+        /**
+         * Whether config entries should only be deserialized when they are accessed for the first time.
+         * <br/>
+         * This avoids running expensive value serializers for entries that are never read.
+         * Note that values of entries that were never accessed are saved exactly as they were loaded,
+         * so invalid or out of range values are only corrected once the entry is accessed.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param lazyDeserialization if entries should be deserialized lazily
+         * @return the builder
+         */
+        public Builder<C> lazyDeserialization(boolean lazyDeserialization) {
+            this.lazyDeserialization = lazyDeserialization;
+            return this;
+        }
+
+        /**
+         * Caches the parsed config in a binary snapshot file next to the config file.
+         * <br/>
+         * The snapshot is loaded instead of parsing the config file as long as the config file wasn't modified.
+         * See {@link CommentedPropertyConfig.Builder#snapshotCache(boolean)}.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param snapshotCache if the parsed config should be cached
+         * @return the builder
+         */
+        public Builder<C> snapshotCache(boolean snapshotCache) {
+            this.snapshotCache = snapshotCache;
+            return this;
+        }
+
+        /**
+         * Whether the config should be reloaded automatically when its file is modified by another program.
+         * <br/>
+         * The config is watched by {@link ConfigWatcher#getDefault()}.
+         * <br/>
+         * This value is <code>false</code> by default.
+         *
+         * @param hotReload if the config should be reloaded automatically
+         * @return the builder
+         */
+        public Builder<C> hotReload(boolean hotReload) {
+            this.watcher = hotReload ? ConfigWatcher.getDefault() : null;
+            return this;
+        }
+
+        /**
+         * Reloads the config automatically when its file is modified by another program.
+         *
+         * @param watcher the watcher that watches the config file
+         * @return the builder
+         */
+        public Builder<C> hotReload(ConfigWatcher watcher) {
+            this.watcher = Objects.requireNonNull(watcher);
+            return this;
+        }
+
+        /**
+         * Adds a listener that is notified when the values of config entries change.
+         * <br/>
+         * All changes of a single reload are delivered at once.
+         *
+         * @param listener the listener
+         * @return the builder
+         */
+        public Builder<C> listener(ConfigListener listener) {
+            listeners.add(Objects.requireNonNull(listener));
+            return this;
+        }
+
+        /**
+         * Sets the executor that notifies the change listeners of the config and its entries.
+         * <br/>
+         * Listeners are notified on the thread that changed the config by default.
+         *
+         * @param listenerExecutor the listener executor
+         * @return the builder
+         */
+        public Builder<C> listenerExecutor(Executor listenerExecutor) {
+            this.listenerExecutor = Objects.requireNonNull(listenerExecutor);
+            return this;
+        }
+
+        /**
+         * Reports timings and sizes of loads, saves and value serializers to the provided metrics.
+         * <br/>
+         * By default, nothing is measured.
+         *
+         * @param metrics the metrics
+         * @return the builder
+         */
+        public Builder<C> metrics(ConfigMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics);
+            return this;
+        }
+
+        /**
+         * Builds the config.
+         *
+         * @return the config
+         * @throws IllegalStateException if {@link #path} was not set
+         */
+        public C build() {
+            CommentedPropertyConfig cpc = CommentedPropertyConfig.builder().path(path).strict(strict).fileChannelLoading(fileChannelLoading).durability(durability).saveScheduler(saveScheduler).saveDelay(saveDelay).lazyDeserialization(lazyDeserialization).snapshotCache(snapshotCache).listenerExecutor(listenerExecutor).metrics(metrics).build();
+
+            ConfigBuilderImpl builder = new ConfigBuilderImpl(cpc, valueSerializers);
+            // Publishing all entries at once avoids copying the properties for every single entry
+            C config = cpc.getProperties().edit(() -> {
+                C c = builderConsumer.apply(builder);
+                builder.freeze();
+                if (removeUnused) {
+                    builder.removeUnused();
+                }
+                if (keepOrder) {
+                    builder.sortEntries();
+                }
+                return c;
+            });
+            if (saveAfterBuild) {
+                builder.config.save();
+            } else if (saveSyncAfterBuild) {
+                builder.config.saveSync();
+            }
+            // Listeners are added after building, so that the initial values are not reported as changes
+            listeners.forEach(cpc::addListener);
+            if (watcher != null) {
+                watcher.register(builder);
+            }
+            return config;
+        }
+
+    }
+
+}
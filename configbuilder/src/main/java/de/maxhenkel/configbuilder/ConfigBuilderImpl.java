@@ -1,18 +1,22 @@
 package de.maxhenkel.configbuilder;
 
+import de.maxhenkel.configbuilder.custom.DoubleList;
 import de.maxhenkel.configbuilder.custom.IntegerList;
+import de.maxhenkel.configbuilder.custom.LongList;
 import de.maxhenkel.configbuilder.custom.StringList;
 import de.maxhenkel.configbuilder.custom.StringMap;
+import de.maxhenkel.configbuilder.custom.StringSet;
+import de.maxhenkel.configbuilder.custom.serializer.DoubleListValueSerializer;
 import de.maxhenkel.configbuilder.custom.serializer.IntegerListValueSerializer;
+import de.maxhenkel.configbuilder.custom.serializer.LongListValueSerializer;
 import de.maxhenkel.configbuilder.custom.serializer.StringListValueSerializer;
 import de.maxhenkel.configbuilder.custom.serializer.StringMapValueSerializer;
+import de.maxhenkel.configbuilder.custom.serializer.StringSetValueSerializer;
 import de.maxhenkel.configbuilder.custom.serializer.UUIDSerializer;
 import de.maxhenkel.configbuilder.entry.*;
 import de.maxhenkel.configbuilder.entry.serializer.*;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,6 +24,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
 
     protected final CommentedPropertyConfig config;
     protected final Map<Class<?>, ValueSerializer<?>> valueSerializers;
+    private final ValueSerializerRegistry valueSerializerRegistry;
     protected List<AbstractConfigEntry<?>> entries;
     protected boolean frozen;
 
@@ -33,6 +38,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
         if (customValueSerializers != null) {
             this.valueSerializers.putAll(customValueSerializers);
         }
+        this.valueSerializerRegistry = new ValueSerializerRegistry(valueSerializers);
         this.entries = new ArrayList<>();
     }
 
@@ -53,8 +59,16 @@ public class ConfigBuilderImpl implements ConfigBuilder {
     }
 
     void reloadFromDisk() {
-        config.reload();
-        entries.forEach(AbstractConfigEntry::reload);
+        // The file is read before locking the properties, so that concurrent modifications don't wait for the disk
+        CommentedProperties loaded = config.readFromDisk();
+        if (loaded == null) {
+            return;
+        }
+        // Listeners are notified about all changed entries at once after the reloaded properties were published
+        config.batch(() -> config.getProperties().edit(() -> {
+            config.getProperties().replace(loaded);
+            entries.forEach(AbstractConfigEntry::reload);
+        }));
     }
 
     void freeze() {
@@ -138,48 +152,47 @@ public class ConfigBuilderImpl implements ConfigBuilder {
         return entry;
     }
 
+    @Override
+    public <T> ConfigEntry<T> entry(String key, T def, ValueSerializer<T> serializer, String... comments) {
+        checkFrozen();
+        GenericConfigEntry<T> entry = new GenericConfigEntry<>(config, Objects.requireNonNull(serializer), comments, key, def);
+        entries.add(entry);
+        return entry;
+    }
+
     private <T> AbstractConfigEntry<T> entryInternal(String key, T def, String... comments) {
-        ValueSerializer<?> valueSerializer = valueSerializers.get(def.getClass());
-        if (valueSerializer != null) {
-            return new GenericConfigEntry<>(config, (ValueSerializer<T>) valueSerializer, comments, key, def);
-        }
-        if (def instanceof Enum<?>) {
+        ValueSerializer<?> valueSerializer = valueSerializerRegistry.get(def.getClass());
+        if (valueSerializer == null && def instanceof Enum<?>) {
             return enumEntry(key, (Enum) def, comments);
         }
-        try {
-            ValueSerializable annotation = def.getClass().getDeclaredAnnotation(ValueSerializable.class);
-            if (annotation == null) {
-                throw new IllegalArgumentException(String.format("Unsupported data type: %s", def.getClass().getName()));
-            }
-            Class<? extends ValueSerializer<?>> entryConverterClass = annotation.value();
-            Constructor<? extends ValueSerializer<?>> constructor = entryConverterClass.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            constructor.newInstance();
-
-            ValueSerializer<T> converter = (ValueSerializer<T>) constructor.newInstance();
-            return new GenericConfigEntry<>(config, converter, comments, key, def);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException |
-                 NoSuchMethodException e) {
-            throw new IllegalArgumentException("Could not instantiate value serializer", e);
+        if (valueSerializer == null) {
+            valueSerializer = valueSerializerRegistry.resolve(def.getClass());
+        }
+        if (valueSerializer == null) {
+            throw new IllegalArgumentException(String.format("Unsupported data type: %s", def.getClass().getName()));
         }
+        return new GenericConfigEntry<>(config, (ValueSerializer<T>) valueSerializer, comments, key, def);
     }
 
     protected static Map<Class<?>, ValueSerializer<?>> getDefaultValueSerializers() {
         Map<Class<?>, ValueSerializer<?>> valueSerializers = new HashMap<>();
 
         // Primitive types
-        valueSerializers.put(Boolean.class, new BooleanSerializer());
-        valueSerializers.put(Integer.class, new IntegerSerializer());
-        valueSerializers.put(Long.class, new LongSerializer());
-        valueSerializers.put(Float.class, new FloatSerializer());
-        valueSerializers.put(Double.class, new DoubleSerializer());
-        valueSerializers.put(String.class, new StringSerializer());
+        valueSerializers.put(Boolean.class, BooleanSerializer.INSTANCE);
+        valueSerializers.put(Integer.class, IntegerSerializer.INSTANCE);
+        valueSerializers.put(Long.class, LongSerializer.INSTANCE);
+        valueSerializers.put(Float.class, FloatSerializer.INSTANCE);
+        valueSerializers.put(Double.class, DoubleSerializer.INSTANCE);
+        valueSerializers.put(String.class, StringSerializer.INSTANCE);
 
         // Builtin types
         valueSerializers.put(UUID.class, UUIDSerializer.INSTANCE);
         valueSerializers.put(StringList.class, StringListValueSerializer.INSTANCE);
         valueSerializers.put(IntegerList.class, IntegerListValueSerializer.INSTANCE);
+        valueSerializers.put(LongList.class, LongListValueSerializer.INSTANCE);
+        valueSerializers.put(DoubleList.class, DoubleListValueSerializer.INSTANCE);
         valueSerializers.put(StringMap.class, StringMapValueSerializer.INSTANCE);
+        valueSerializers.put(StringSet.class, StringSetValueSerializer.INSTANCE);
 
         return valueSerializers;
     }
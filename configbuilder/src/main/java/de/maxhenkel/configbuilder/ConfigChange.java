@@ -0,0 +1,43 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+
+/**
+ * A change of the value of a config entry.
+ *
+ * @param <T> the type of the value
+ */
+public class ConfigChange<T> {
+
+    private final ConfigEntry<T> entry;
+    private final T oldValue;
+    private final T newValue;
+
+    ConfigChange(ConfigEntry<T> entry, T oldValue, T newValue) {
+        this.entry = entry;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * @return the changed config entry
+     */
+    public ConfigEntry<T> getEntry() {
+        return entry;
+    }
+
+    /**
+     * @return the value before the change
+     */
+    public T getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * @return the value after the change
+     */
+    public T getNewValue() {
+        return newValue;
+    }
+
+}
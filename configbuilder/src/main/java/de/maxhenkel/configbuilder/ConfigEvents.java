@@ -0,0 +1,89 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+
+/**
+ * Emits Java Flight Recorder events for config I/O.
+ * <br/>
+ * Every event is started with a <code>begin</code> method and committed with the corresponding <code>commit</code> method.
+ * Flight Recorder events are only available on Java 11 or newer, so this version does nothing.
+ * The jar contains a separate version of this class for Java 11 or newer that emits the actual events.
+ */
+class ConfigEvents {
+
+    private ConfigEvents() {
+
+    }
+
+    /**
+     * @return the started event or <code>null</code> if events are not available
+     */
+    @Nullable
+    static Object beginLoad() {
+        return null;
+    }
+
+    /**
+     * @param event   the event returned by {@link #beginLoad()}
+     * @param path    the config file
+     * @param bytes   the size of the config file
+     * @param entries the number of loaded entries
+     */
+    static void commitLoad(@Nullable Object event, Path path, long bytes, int entries) {
+
+    }
+
+    /**
+     * @return the started event or <code>null</code> if events are not available
+     */
+    @Nullable
+    static Object beginReload() {
+        return null;
+    }
+
+    /**
+     * @param event   the event returned by {@link #beginReload()}
+     * @param path    the config file or <code>null</code> if the config is in-memory only
+     * @param entries the number of loaded entries
+     */
+    static void commitReload(@Nullable Object event, @Nullable Path path, int entries) {
+
+    }
+
+    /**
+     * @return the started event or <code>null</code> if events are not available
+     */
+    @Nullable
+    static Object beginSave() {
+        return null;
+    }
+
+    /**
+     * @param event   the event returned by {@link #beginSave()}
+     * @param path    the config file
+     * @param bytes   the number of written bytes or <code>0</code> if the file already had the same content
+     * @param entries the number of saved entries
+     */
+    static void commitSave(@Nullable Object event, Path path, long bytes, int entries) {
+
+    }
+
+    /**
+     * @return the started event or <code>null</code> if events are not available
+     */
+    @Nullable
+    static Object beginQueuedSave() {
+        return null;
+    }
+
+    /**
+     * @param event          the event returned by {@link #beginQueuedSave()}
+     * @param path           the config file
+     * @param queueWaitNanos how long the save was waiting to be executed in nanoseconds
+     */
+    static void commitQueuedSave(@Nullable Object event, Path path, long queueWaitNanos) {
+
+    }
+
+}
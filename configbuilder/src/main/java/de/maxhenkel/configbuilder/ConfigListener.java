@@ -0,0 +1,16 @@
+package de.maxhenkel.configbuilder;
+
+import java.util.List;
+
+public interface ConfigListener {
+
+    /**
+     * Called when the values of config entries changed.
+     * <br/>
+     * All changes of a single reload or {@link CommentedPropertyConfig#batch(Runnable) batch} are delivered at once.
+     *
+     * @param changes the changes in the order they happened, containing at most one change per entry
+     */
+    void onChange(List<ConfigChange<?>> changes);
+
+}
@@ -0,0 +1,82 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import java.nio.file.Path;
+
+/**
+ * Receives timings and sizes of config operations.
+ * <br/>
+ * All methods do nothing by default, so implementations only need to override the ones they are interested in.
+ * Implementations are called on the thread that performs the operation and should therefore return quickly.
+ * <br/>
+ * Configs without metrics don't measure anything.
+ */
+public interface ConfigMetrics {
+
+    /**
+     * Called after a config file was loaded.
+     *
+     * @param path          the config file
+     * @param durationNanos how long reading and parsing the file took in nanoseconds
+     * @param bytesRead     the size of the file in bytes
+     * @param entriesParsed the number of entries in the file
+     */
+    default void onLoad(Path path, long durationNanos, long bytesRead, int entriesParsed) {
+
+    }
+
+    /**
+     * Called when the value of an entry could not be deserialized and the default value is used instead.
+     *
+     * @param key   the config key
+     * @param value the value that could not be deserialized
+     */
+    default void onParseFallback(String key, String value) {
+
+    }
+
+    /**
+     * Called after a config file was saved.
+     *
+     * @param path          the config file
+     * @param durationNanos how long rendering and writing the file took in nanoseconds
+     * @param bytesWritten  the number of bytes written or <code>0</code> if the file already had the same content
+     */
+    default void onSave(Path path, long durationNanos, long bytesWritten) {
+
+    }
+
+    /**
+     * Called when an asynchronous save is executed.
+     *
+     * @param path           the config file
+     * @param queueWaitNanos how long the save was waiting to be executed in nanoseconds, including the save delay
+     */
+    default void onQueuedSave(Path path, long queueWaitNanos) {
+
+    }
+
+    /**
+     * Called after the value of an entry was deserialized.
+     *
+     * @param key           the config key
+     * @param serializer    the value serializer
+     * @param durationNanos how long the deserialization took in nanoseconds
+     */
+    default void onDeserialize(String key, ValueSerializer<?> serializer, long durationNanos) {
+
+    }
+
+    /**
+     * Called after the value of an entry was serialized.
+     *
+     * @param key           the config key
+     * @param serializer    the value serializer
+     * @param durationNanos how long the serialization took in nanoseconds
+     */
+    default void onSerialize(String key, ValueSerializer<?> serializer, long durationNanos) {
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of building all configs of a directory with {@link ConfigBuilder#buildAll(Path, java.util.function.Function, java.util.concurrent.Executor)}.
+ *
+ * @param <C> your config class
+ */
+public class ConfigSet<C> {
+
+    private final Map<Path, C> configs;
+    private final Map<Path, Throwable> errors;
+
+    ConfigSet(Map<Path, C> configs, Map<Path, Throwable> errors) {
+        this.configs = Collections.unmodifiableMap(configs);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * @return an unmodifiable map containing all successfully built configs by their file, sorted by file
+     */
+    public Map<Path, C> getConfigs() {
+        return configs;
+    }
+
+    /**
+     * @return an unmodifiable map containing the errors of all configs that failed to build by their file
+     */
+    public Map<Path, Throwable> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param file the config file
+     * @return the config or <code>null</code> if it doesn't exist or failed to build
+     */
+    @Nullable
+    public C get(Path file) {
+        return configs.get(file);
+    }
+
+}
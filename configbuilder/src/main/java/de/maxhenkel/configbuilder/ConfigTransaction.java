@@ -0,0 +1,91 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.AbstractConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects changes of config entries that are applied at once with {@link CommentedPropertyConfig#update(java.util.function.Consumer)}.
+ * <br/>
+ * The changes are only staged until the transaction is committed,
+ * so every entry is serialized once, no matter how often it was set in the transaction.
+ * <br/>
+ * All values are serialized before any entry or property is changed.
+ * The entries only get their new values after the changed properties were published,
+ * so a value that can't be serialized leaves both the entries and the properties unchanged.
+ */
+public class ConfigTransaction {
+
+    private final CommentedPropertyConfig config;
+    private final Map<ConfigEntry<?>, Object> values;
+
+    ConfigTransaction(CommentedPropertyConfig config) {
+        this.config = config;
+        this.values = new LinkedHashMap<>();
+    }
+
+    /**
+     * Stages a new value for the provided entry.
+     *
+     * @param entry the config entry
+     * @param value the new value
+     * @param <T>   the type of the value
+     * @return this
+     * @throws IllegalArgumentException if the entry doesn't belong to the config of this transaction
+     */
+    public <T> ConfigTransaction set(ConfigEntry<T> entry, T value) {
+        if (entry.getConfig() != config) {
+            throw new IllegalArgumentException(String.format("Config entry %s doesn't belong to this config", entry.getKey()));
+        }
+        values.put(entry, Objects.requireNonNull(value));
+        return this;
+    }
+
+    /**
+     * Stages the default value for the provided entry.
+     *
+     * @param entry the config entry
+     * @param <T>   the type of the value
+     * @return this
+     * @throws IllegalArgumentException if the entry doesn't belong to the config of this transaction
+     */
+    public <T> ConfigTransaction reset(ConfigEntry<T> entry) {
+        return set(entry, entry.getDefault());
+    }
+
+    /**
+     * @param entry the config entry
+     * @param <T>   the type of the value
+     * @return the staged value or the current value if the entry wasn't changed in this transaction
+     */
+    public <T> T get(ConfigEntry<T> entry) {
+        Object value = values.get(entry);
+        if (value == null) {
+            return entry.get();
+        }
+        return (T) value;
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    void apply() {
+        CommentedProperties properties = config.getProperties();
+        // The entries are written while holding the lock of the properties
+        synchronized (properties) {
+            List<AbstractConfigEntry<Object>.PreparedValue> prepared = new ArrayList<>(values.size());
+            for (Map.Entry<ConfigEntry<?>, Object> entry : values.entrySet()) {
+                prepared.add(((AbstractConfigEntry<Object>) entry.getKey()).prepare(entry.getValue()));
+            }
+            properties.edit(() -> prepared.forEach(value -> value.writeToProperties()));
+            prepared.forEach(value -> value.publish());
+        }
+    }
+
+}
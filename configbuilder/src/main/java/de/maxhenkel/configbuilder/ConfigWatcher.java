@@ -0,0 +1,283 @@
+package de.maxhenkel.configbuilder;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reloads configs when their files are modified by another program.
+ * <br/>
+ * A single thread watches the parent directories of all registered configs.
+ * Bursts of modifications to the same file are debounced, so that the config is only reloaded once after the file stopped changing.
+ * Modifications that were caused by saving the config itself don't trigger a reload.
+ * <br/>
+ * Configs are only referenced weakly, so they stop being watched once they are no longer used.
+ * They can also be unregistered explicitly with {@link #unregister(CommentedPropertyConfig)}.
+ * Directories are no longer watched once they don't contain any registered configs.
+ * <br/>
+ * Note that only configs on the default file system can be watched.
+ */
+public class ConfigWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigWatcher.class.getName());
+    private static final ConfigWatcher DEFAULT = new ConfigWatcher(Duration.ofMillis(500));
+    /**
+     * How often configs that are no longer used are removed if there are no modifications.
+     */
+    private static final long EXPUNGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    private final long debounceNanos;
+    private final Map<Path, List<WatchedConfig>> configs;
+    private final ReferenceQueue<CommentedPropertyConfig> staleConfigs;
+    private final Map<Path, WatchKey> directories;
+    private final Map<Path, Long> pendingReloads;
+    private WatchService watchService;
+    private boolean closed;
+
+    /**
+     * @param debounce how long a file has to stay unmodified before the config is reloaded
+     */
+    public ConfigWatcher(Duration debounce) {
+        if (debounce.isNegative()) {
+            throw new IllegalArgumentException("Debounce can't be negative");
+        }
+        this.debounceNanos = debounce.toNanos();
+        this.configs = new ConcurrentHashMap<>();
+        this.staleConfigs = new ReferenceQueue<>();
+        this.directories = new HashMap<>();
+        this.pendingReloads = new HashMap<>();
+    }
+
+    /**
+     * @return the watcher that is shared by all configs that don't specify their own
+     */
+    public static ConfigWatcher getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Starts watching the file of the provided config.
+     *
+     * @param builder the config builder to reload
+     */
+    synchronized void register(ConfigBuilderImpl builder) {
+        Path path = builder.config.path;
+        if (path == null) {
+            return;
+        }
+        if (closed) {
+            throw new IllegalStateException("Config watcher is closed");
+        }
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            LOGGER.warning(String.format("Can't watch config %s, since it is not on the default file system", path));
+            return;
+        }
+        Path file = path.toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread thread = new Thread(this::run);
+                thread.setName("ConfigWatcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            if (!directories.containsKey(directory)) {
+                Files.createDirectories(directory);
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(directory, key);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, String.format("Failed to watch config %s", path), e);
+            return;
+        }
+        // The config keeps its builder reachable, since the watcher only references the config weakly
+        builder.config.reloadFromDisk = builder::reloadFromDisk;
+        configs.computeIfAbsent(file, p -> new CopyOnWriteArrayList<>()).add(new WatchedConfig(builder.config, file, staleConfigs));
+    }
+
+    /**
+     * Stops watching the file of the provided config.
+     * <br/>
+     * The parent directory of the file is no longer watched if it doesn't contain any other registered configs.
+     *
+     * @param config the config
+     */
+    public synchronized void unregister(CommentedPropertyConfig config) {
+        Path path = config.path;
+        if (path == null) {
+            return;
+        }
+        Path file = path.toAbsolutePath().normalize();
+        remove(file, watched -> {
+            CommentedPropertyConfig watchedConfig = watched.get();
+            return watchedConfig == null || watchedConfig == config;
+        });
+    }
+
+    /**
+     * Removes all configs that were garbage collected.
+     */
+    private synchronized void expungeStaleConfigs() {
+        WatchedConfig stale;
+        while ((stale = (WatchedConfig) staleConfigs.poll()) != null) {
+            WatchedConfig reference = stale;
+            remove(stale.file, watched -> watched == reference);
+        }
+    }
+
+    private void remove(Path file, Predicate<WatchedConfig> filter) {
+        List<WatchedConfig> watchedConfigs = configs.get(file);
+        if (watchedConfigs == null) {
+            return;
+        }
+        watchedConfigs.removeIf(filter);
+        if (!watchedConfigs.isEmpty()) {
+            return;
+        }
+        configs.remove(file);
+        pendingReloads.remove(file);
+        Path directory = file.getParent();
+        for (Path other : configs.keySet()) {
+            if (other.getParent().equals(directory)) {
+                return;
+            }
+        }
+        WatchKey key = directories.remove(directory);
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key;
+                long nextDeadline = nextDeadline();
+                long timeout = nextDeadline == Long.MAX_VALUE ? EXPUNGE_INTERVAL_NANOS : Math.min(nextDeadline - System.nanoTime(), EXPUNGE_INTERVAL_NANOS);
+                key = watchService.poll(Math.max(timeout, 0L), TimeUnit.NANOSECONDS);
+                expungeStaleConfigs();
+                if (key != null) {
+                    processEvents(key);
+                }
+                reloadDueConfigs();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // The watcher was closed
+        }
+    }
+
+    private synchronized long nextDeadline() {
+        long next = Long.MAX_VALUE;
+        for (long deadline : pendingReloads.values()) {
+            next = Math.min(next, deadline);
+        }
+        return next;
+    }
+
+    private synchronized void processEvents(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + debounceNanos;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, so every config in this directory might have changed
+                for (Path file : configs.keySet()) {
+                    if (file.getParent().equals(directory)) {
+                        pendingReloads.put(file, deadline);
+                    }
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (configs.containsKey(file)) {
+                pendingReloads.put(file, deadline);
+            }
+        }
+        key.reset();
+    }
+
+    private void reloadDueConfigs() {
+        List<Path> due = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            Iterator<Map.Entry<Path, Long>> iterator = pendingReloads.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, Long> entry = iterator.next();
+                if (entry.getValue() - now <= 0L) {
+                    due.add(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+        for (Path file : due) {
+            List<WatchedConfig> watchedConfigs = configs.get(file);
+            if (watchedConfigs == null) {
+                continue;
+            }
+            for (WatchedConfig watched : watchedConfigs) {
+                CommentedPropertyConfig config = watched.get();
+                if (config == null || !config.isModifiedOnDisk()) {
+                    continue;
+                }
+                Runnable reload = config.reloadFromDisk;
+                if (reload == null) {
+                    continue;
+                }
+                try {
+                    reload.run();
+                } catch (Exception e) {
+                    LOGGER.log(Level.SEVERE, String.format("Failed to reload config %s", file), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops watching all configs.
+     * <br/>
+     * Note that the default watcher can't be closed.
+     */
+    public synchronized void close() {
+        if (this == DEFAULT) {
+            throw new IllegalStateException("The default config watcher can't be closed");
+        }
+        closed = true;
+        configs.clear();
+        directories.clear();
+        pendingReloads.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to close config watcher", e);
+            }
+        }
+    }
+
+    /**
+     * @return the number of watched config files
+     */
+    public int getWatchedConfigs() {
+        expungeStaleConfigs();
+        return configs.size();
+    }
+
+    private static class WatchedConfig extends WeakReference<CommentedPropertyConfig> {
+        private final Path file;
+
+        private WatchedConfig(CommentedPropertyConfig config, Path file, ReferenceQueue<CommentedPropertyConfig> queue) {
+            super(config, queue);
+            this.file = file;
+        }
+    }
+
+}
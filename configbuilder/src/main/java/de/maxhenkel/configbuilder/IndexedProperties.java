@@ -0,0 +1,332 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * A read-only view of a property file that only decodes the lines that are actually accessed.
+ * <br/>
+ * The byte offsets of all properties are stored in a sidecar index file next to the property file,
+ * which is validated against the size, modification time and CRC32 checksum of the property file.
+ * If the index is missing or outdated, it is rebuilt by parsing the property file once.
+ * <br/>
+ * Looking up a key binary searches the hash of the key in the index and only decodes the matching lines.
+ * Note that comments are not available.
+ */
+class IndexedProperties extends AbstractMap<String, String> {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexedProperties.class.getName());
+
+    private static final int MAGIC = 0x43424958;
+    private static final int VERSION = 1;
+    /**
+     * Magic, version, file size, modification time, checksum and record count.
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4;
+    /**
+     * Key hash, line length and line offset.
+     */
+    private static final int RECORD_SIZE = 4 + 4 + 8;
+
+    static final IndexedProperties EMPTY = new IndexedProperties(ByteBuffer.allocate(0), ByteBuffer.allocate(HEADER_SIZE), 0, StandardCharsets.UTF_8);
+
+    private final ByteBuffer file;
+    private final ByteBuffer index;
+    private final int size;
+    private final Charset charset;
+
+    private IndexedProperties(ByteBuffer file, ByteBuffer index, int size, Charset charset) {
+        this.file = file;
+        this.index = index;
+        this.size = size;
+        this.charset = charset;
+    }
+
+    /**
+     * Opens the provided property file and its index.
+     *
+     * @param path    the property file
+     * @param charset the charset of the property file
+     * @return the indexed properties
+     * @throws IOException if the file can't be read or contains malformed characters
+     */
+    static IndexedProperties open(Path path, Charset charset) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Indexed configs are read-only, so large files can stay mapped for the lookups
+            file = PropertiesParser.map(channel, path);
+        }
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        CRC32 crc = new CRC32();
+        crc.update(file.duplicate());
+        long checksum = crc.getValue();
+
+        Path indexPath = indexPath(path);
+        ByteBuffer index = readIndex(indexPath, file.remaining(), modified, checksum);
+        if (index == null) {
+            index = buildIndex(file, charset, modified, checksum);
+            writeIndex(indexPath, index);
+        }
+        return new IndexedProperties(file, index, index.getInt(HEADER_SIZE - 4), charset);
+    }
+
+    /**
+     * @param path the property file
+     * @return the path of the sidecar index file
+     */
+    static Path indexPath(Path path) {
+        return path.resolveSibling(String.format(".%s.idx", path.getFileName()));
+    }
+
+    @Nullable
+    private static ByteBuffer readIndex(Path indexPath, long fileSize, long modified, long checksum) {
+        if (!Files.isRegularFile(indexPath)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            ByteBuffer index = PropertiesParser.read(channel, indexPath);
+            if (index.remaining() < HEADER_SIZE
+                    || index.getInt(0) != MAGIC
+                    || index.getInt(4) != VERSION
+                    || index.getLong(8) != fileSize
+                    || index.getLong(16) != modified
+                    || index.getLong(24) != checksum
+                    || index.remaining() != HEADER_SIZE + (long) index.getInt(HEADER_SIZE - 4) * RECORD_SIZE) {
+                return null;
+            }
+            return index;
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to read config index", e);
+            return null;
+        }
+    }
+
+    private static ByteBuffer buildIndex(ByteBuffer file, Charset charset, long modified, long checksum) throws IOException {
+        CharBuffer chars;
+        try {
+            chars = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(file.duplicate());
+        } catch (CharacterCodingException e) {
+            throw new IOException("Can't index config file with malformed characters", e);
+        }
+        char[] buffer = chars.array();
+        int offset = chars.arrayOffset() + chars.position();
+        PropertiesParser parser = new PropertiesParser(buffer, offset, chars.remaining());
+
+        // Later definitions of the same key overwrite earlier ones, like in CommentedProperties
+        Map<String, long[]> records = new HashMap<>();
+        int charPosition = offset;
+        long bytePosition = 0L;
+        PropertiesParser.LineType type;
+        while (true) {
+            int lineStart = parser.position();
+            type = parser.next();
+            if (type == null) {
+                break;
+            }
+            int lineEnd = parser.position();
+            bytePosition += encodedLength(buffer, charPosition, lineStart, charset);
+            long lineLength = encodedLength(buffer, lineStart, lineEnd, charset);
+            if (type == PropertiesParser.LineType.PROPERTY) {
+                records.put(parser.key(), new long[]{bytePosition, lineLength});
+            }
+            bytePosition += lineLength;
+            charPosition = lineEnd;
+        }
+
+        List<Map.Entry<String, long[]>> sorted = new ArrayList<>(records.entrySet());
+        sorted.sort(Comparator.comparingInt(e -> e.getKey().hashCode()));
+        ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + sorted.size() * RECORD_SIZE);
+        index.putInt(MAGIC);
+        index.putInt(VERSION);
+        index.putLong(file.remaining());
+        index.putLong(modified);
+        index.putLong(checksum);
+        index.putInt(sorted.size());
+        for (Map.Entry<String, long[]> entry : sorted) {
+            index.putInt(entry.getKey().hashCode());
+            index.putInt((int) entry.getValue()[1]);
+            index.putLong(entry.getValue()[0]);
+        }
+        index.flip();
+        return index;
+    }
+
+    private static long encodedLength(char[] chars, int from, int to, Charset charset) {
+        if (charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII)) {
+            return to - from;
+        }
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            long length = 0L;
+            for (int i = from; i < to; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800 || Character.isSurrogate(c)) {
+                    // Surrogate pairs are encoded with four bytes
+                    length += 2;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+        return charset.encode(CharBuffer.wrap(chars, from, to - from)).remaining();
+    }
+
+    private static void writeIndex(Path indexPath, ByteBuffer index) {
+        Path tempFile = indexPath.resolveSibling(String.format("%s.tmp", indexPath.getFileName()));
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = index.duplicate();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(tempFile, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The index is still used in memory and rebuilt the next time
+            LOGGER.log(Level.WARNING, "Failed to write config index", e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Failed to delete temporary config index", ex);
+            }
+        }
+    }
+
+    private int hashAt(int record) {
+        return index.getInt(HEADER_SIZE + record * RECORD_SIZE);
+    }
+
+    /**
+     * Decodes the property line of the provided record.
+     *
+     * @param record the index of the record
+     * @return the parser positioned after the property or <code>null</code> if the line is not a property
+     */
+    @Nullable
+    private PropertiesParser parseRecord(int record) {
+        int position = HEADER_SIZE + record * RECORD_SIZE;
+        int length = index.getInt(position + 4);
+        int offset = (int) index.getLong(position + 8);
+        ByteBuffer line = file.duplicate();
+        line.position(offset).limit(offset + length);
+        try {
+            PropertiesParser parser = PropertiesParser.fromBytes(line, charset);
+            if (parser.next() != PropertiesParser.LineType.PROPERTY) {
+                return null;
+            }
+            return parser;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to parse indexed config entry", e);
+            return null;
+        }
+    }
+
+    /**
+     * @param key the key
+     * @return the value or <code>null</code> if the entry does not exist
+     */
+    @Nullable
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int hash = key.hashCode();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midHash = hashAt(mid);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                low = mid;
+                break;
+            }
+        }
+        // Go back to the first record with this hash, since different keys can have the same hash
+        while (low > 0 && low < size && hashAt(low - 1) == hash) {
+            low--;
+        }
+        for (int i = low; i < size && hashAt(i) == hash; i++) {
+            PropertiesParser parser = parseRecord(i);
+            if (parser != null && parser.key().equals(key)) {
+                return parser.value();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Note that this decodes every single entry when iterated.
+     *
+     * @return all entries in no particular order
+     */
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int record;
+
+                    @Override
+                    public boolean hasNext() {
+                        return record < size;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        PropertiesParser parser = parseRecord(record++);
+                        if (parser == null) {
+                            throw new IllegalStateException("Config index is corrupted");
+                        }
+                        return new SimpleImmutableEntry<>(parser.key(), parser.value());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,157 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A read-only config that looks up values through a sidecar index file instead of loading the whole file.
+ * <br/>
+ * The index maps the keys to their offsets in the config file and is stored next to it.
+ * It is rebuilt automatically if the config file was changed.
+ * {@link #get(String)} then only decodes the requested line,
+ * which is useful for huge config files of which only a few entries are read.
+ * <br/>
+ * Indexed configs can't be modified or saved and don't provide access to comments,
+ * so they can't be used with a {@link ConfigBuilder}.
+ */
+public class IndexedPropertyConfig implements Config {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexedPropertyConfig.class.getName());
+
+    @Nullable
+    private final Path path;
+    private final boolean strict;
+    @Nullable
+    private final ConfigMetrics metrics;
+    private volatile IndexedProperties indexedProperties;
+
+    private IndexedPropertyConfig(@Nullable Path path, boolean strict, @Nullable ConfigMetrics metrics) {
+        this.path = path;
+        this.strict = strict;
+        this.metrics = metrics;
+        this.indexedProperties = IndexedProperties.EMPTY;
+    }
+
+    /**
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        @Nullable
+        private Path path;
+        private boolean strict;
+        @Nullable
+        private ConfigMetrics metrics;
+
+        private Builder() {
+            strict = true;
+        }
+
+        /**
+         * Sets the path to the config.
+         * <br/>
+         * If this value is not set, the config is empty.
+         *
+         * @param path the path
+         * @return the builder
+         */
+        public Builder path(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * A strict config is compliant to Javas {@link java.util.Properties} class and decoded with ISO-8859-1.
+         * Other configs are decoded with UTF-8.
+         * <br/>
+         * This value is <code>true</code> by default.
+         *
+         * @param strict whether the config should be strict
+         * @return the builder
+         */
+        public Builder strict(boolean strict) {
+            this.strict = strict;
+            return this;
+        }
+
+        /**
+         * Reports timings and sizes of loads to the provided metrics.
+         * <br/>
+         * This value is <code>null</code> by default, which means that nothing is measured.
+         *
+         * @param metrics the metrics or <code>null</code> to not measure anything
+         * @return the builder
+         */
+        public Builder metrics(@Nullable ConfigMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return the config
+         */
+        public IndexedPropertyConfig build() {
+            IndexedPropertyConfig config = new IndexedPropertyConfig(path == null ? null : path.toAbsolutePath(), strict, metrics);
+            config.reload();
+            return config;
+        }
+    }
+
+    /**
+     * @param key the config key
+     * @return the string representation of the value or <code>null</code> if the entry does not exist
+     */
+    @Nullable
+    public String get(String key) {
+        return indexedProperties.get(key);
+    }
+
+    /**
+     * Opens the config file and its index if the path is set and the file exists.
+     *
+     * @throws IOException if an IO error occurs
+     */
+    public void load() throws IOException {
+        if (path == null || !Files.exists(path)) {
+            indexedProperties = IndexedProperties.EMPTY;
+            return;
+        }
+        ConfigMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object event = ConfigEvents.beginLoad();
+        indexedProperties = IndexedProperties.open(path, strict ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        long bytes = Files.size(path);
+        ConfigEvents.commitLoad(event, path, bytes, indexedProperties.size());
+        if (metrics != null) {
+            metrics.onLoad(path, System.nanoTime() - start, bytes, indexedProperties.size());
+        }
+    }
+
+    /**
+     * Opens the config file again and rebuilds the index if the file was changed.
+     */
+    public void reload() {
+        Object event = ConfigEvents.beginReload();
+        try {
+            load();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to reload config", e);
+        }
+        ConfigEvents.commitReload(event, path, indexedProperties.size());
+    }
+
+    @Override
+    public Map<String, String> getEntries() {
+        return indexedProperties;
+    }
+
+}
@@ -0,0 +1,387 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A single pass parser for property files.
+ * <br/>
+ * The decoded characters are scanned exactly once.
+ * Continuation lines, escape sequences and comments are handled by the same state machine,
+ * so the only strings that get allocated are the resulting keys, values and comments.
+ */
+class PropertiesParser {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    /**
+     * Files of this size or larger are memory-mapped by {@link #map(FileChannel, Path)} instead of being read into a heap buffer.
+     */
+    static final long MAPPED_LOAD_THRESHOLD = 1024L * 1024L;
+
+    private final char[] buffer;
+    private final int end;
+    private int pos;
+
+    private char[] key;
+    private int keyLength;
+    private char[] value;
+    private int valueLength;
+
+    /**
+     * @param buffer the decoded characters
+     * @param offset the offset of the first character to parse
+     * @param length the number of characters to parse
+     */
+    PropertiesParser(char[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.pos = offset;
+        this.end = offset + length;
+        this.key = new char[64];
+        this.value = new char[256];
+    }
+
+    /**
+     * Reads all characters of the provided reader.
+     * <br/>
+     * Note that this does not close the reader.
+     *
+     * @param reader the reader
+     * @return the parser
+     * @throws IOException if an IO error occurs
+     */
+    static PropertiesParser fromReader(Reader reader) throws IOException {
+        char[] chars = new char[INITIAL_BUFFER_SIZE];
+        int length = 0;
+        int read;
+        while ((read = reader.read(chars, length, chars.length - length)) != -1) {
+            length += read;
+            if (length >= chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+        return new PropertiesParser(chars, 0, length);
+    }
+
+    /**
+     * Reads the provided file through a {@link FileChannel} and decodes it directly into the parser buffer.
+     * <br/>
+     * Malformed input is replaced with the replacement character of the charset, like {@link java.io.InputStreamReader} does.
+     *
+     * @param path    the file to read
+     * @param charset the charset to decode the file with
+     * @return the parser
+     * @throws IOException if an IO error occurs
+     */
+    static PropertiesParser fromFile(Path path, Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return fromBytes(read(channel, path), charset);
+        }
+    }
+
+    /**
+     * Reads the whole file into a heap buffer.
+     * <br/>
+     * Files that are saved again must not be memory-mapped,
+     * since the mapping is only released by the garbage collector and prevents replacing the file on some platforms (for example Windows).
+     *
+     * @param channel the channel of the file
+     * @param path    the path of the file
+     * @return the bytes of the file
+     * @throws IOException if an IO error occurs or the file is larger than 2 GiB
+     */
+    static ByteBuffer read(FileChannel channel, Path path) throws IOException {
+        long size = checkSize(channel, path);
+        ByteBuffer bytes = ByteBuffer.allocate((int) size);
+        while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+            // Read until the buffer is full or the end of the file is reached
+        }
+        bytes.flip();
+        return bytes;
+    }
+
+    /**
+     * Reads the whole file and memory-maps it if it is larger than {@link #MAPPED_LOAD_THRESHOLD}.
+     * <br/>
+     * This must only be used for files that are never written by this library, see {@link #read(FileChannel, Path)}.
+     *
+     * @param channel the channel of the file
+     * @param path    the path of the file
+     * @return the bytes of the file
+     * @throws IOException if an IO error occurs or the file is larger than 2 GiB
+     */
+    static ByteBuffer map(FileChannel channel, Path path) throws IOException {
+        long size = checkSize(channel, path);
+        if (size >= MAPPED_LOAD_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return read(channel, path);
+    }
+
+    private static long checkSize(FileChannel channel, Path path) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(String.format("Config file is too large: %s", path));
+        }
+        return size;
+    }
+
+    /**
+     * @param bytes   the encoded characters
+     * @param charset the charset to decode the bytes with
+     * @return the parser
+     * @throws IOException if the bytes could not be decoded
+     */
+    static PropertiesParser fromBytes(ByteBuffer bytes, Charset charset) throws IOException {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate((int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte()));
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        return new PropertiesParser(chars.array(), chars.arrayOffset(), chars.position());
+    }
+
+    /**
+     * Parses the next logical line.
+     * <br/>
+     * The key of a {@link LineType#PROPERTY} can be retrieved with {@link #key()}.
+     * The value of a {@link LineType#PROPERTY} or the text of a {@link LineType#COMMENT} can be retrieved with {@link #value()}.
+     *
+     * @return the type of the line or <code>null</code> if the end of the input was reached
+     * @throws IOException if the line contains an invalid escape sequence
+     */
+    @Nullable
+    LineType next() throws IOException {
+        if (pos >= end) {
+            return null;
+        }
+        keyLength = 0;
+        valueLength = 0;
+
+        boolean blank = true;
+        boolean isKey = true;
+        boolean isComment = false;
+        boolean isPrecedingBackslash = false;
+        boolean onlyHadWhitespace = true;
+        boolean isStartOfValue = false;
+        char previous = 0;
+
+        while (pos < end) {
+            char c = buffer[pos++];
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && pos < end && buffer[pos] == '\n') {
+                    pos++;
+                }
+                if (isComment ? previous == '\\' : isPrecedingBackslash) {
+                    // A backslash at the end of a line joins the next line
+                    if (isComment) {
+                        valueLength--;
+                        onlyHadWhitespace = valueLength <= 0;
+                    }
+                    isPrecedingBackslash = false;
+                    previous = 0;
+                    continue;
+                }
+                return lineType(blank, isComment);
+            }
+            previous = c;
+            boolean isWhitespace = isWhitespace(c);
+            if (c > ' ' && c != '\\') {
+                blank = false;
+            }
+            if (isComment) {
+                if (onlyHadWhitespace && isWhitespace) {
+                    continue;
+                } else {
+                    onlyHadWhitespace = false;
+                }
+                appendValue(c);
+                continue;
+            }
+            if (isPrecedingBackslash) {
+                blank = false;
+                if (isKey) {
+                    appendKey(readEscapedCharacter(c));
+                } else {
+                    appendValue(readEscapedCharacter(c));
+                }
+                isPrecedingBackslash = false;
+                isStartOfValue = false;
+                continue;
+            }
+            if (c == '\\') {
+                isPrecedingBackslash = true;
+                continue;
+            }
+            if (c == '#' || c == '!') {
+                if (onlyHadWhitespace) {
+                    isComment = true;
+                    continue;
+                }
+            }
+            if (isKey) {
+                if (keyLength <= 0) {
+                    if (isWhitespace) {
+                        continue;
+                    }
+                }
+                if (isSeparator(c)) {
+                    isKey = false;
+                    isStartOfValue = true;
+                    onlyHadWhitespace = false;
+                    continue;
+                }
+                if (isWhitespace) {
+                    continue;
+                }
+                appendKey(c);
+            } else {
+                if (isStartOfValue) {
+                    if (isWhitespace || isSeparator(c)) {
+                        continue;
+                    }
+                }
+                appendValue(c);
+                isStartOfValue = false;
+            }
+            if (onlyHadWhitespace) {
+                if (!isWhitespace) {
+                    onlyHadWhitespace = false;
+                }
+            }
+        }
+
+        if (isComment && previous == '\\') {
+            valueLength--;
+        }
+        return lineType(blank, isComment);
+    }
+
+    private static LineType lineType(boolean blank, boolean isComment) {
+        if (blank) {
+            return LineType.BLANK;
+        }
+        return isComment ? LineType.COMMENT : LineType.PROPERTY;
+    }
+
+    /**
+     * @return the position of the next character that will be parsed
+     */
+    int position() {
+        return pos;
+    }
+
+    /**
+     * @return the key of the last parsed property
+     */
+    String key() {
+        return new String(key, 0, keyLength);
+    }
+
+    /**
+     * @return the value of the last parsed property or the text of the last parsed comment
+     */
+    String value() {
+        return new String(value, 0, valueLength);
+    }
+
+    private void appendKey(char c) {
+        if (keyLength >= key.length) {
+            key = Arrays.copyOf(key, key.length * 2);
+        }
+        key[keyLength++] = c;
+    }
+
+    private void appendValue(char c) {
+        if (valueLength >= value.length) {
+            value = Arrays.copyOf(value, value.length * 2);
+        }
+        value[valueLength++] = c;
+    }
+
+    private char readEscapedCharacter(char c) throws IOException {
+        if (c == 'u') {
+            int u = 0;
+            for (int i = 0; i < 4; i++) {
+                if (pos >= end) {
+                    throw new IOException("Invalid unicode escape sequence");
+                }
+                char uc = buffer[pos++];
+                if (uc == '\\' && pos < end && (buffer[pos] == '\n' || buffer[pos] == '\r')) {
+                    // The escape sequence continues on the next line
+                    skipLineBreak();
+                    i--;
+                    continue;
+                }
+                u = u << 4;
+                if (uc >= '0' && uc <= '9') {
+                    u += uc - '0';
+                } else if (uc >= 'a' && uc <= 'f') {
+                    u += uc - 'a' + 10;
+                } else if (uc >= 'A' && uc <= 'F') {
+                    u += uc - 'A' + 10;
+                } else {
+                    throw new IOException("Invalid unicode escape sequence");
+                }
+            }
+            return (char) u;
+        } else if (c == 't') {
+            return '\t';
+        } else if (c == 'r') {
+            return '\r';
+        } else if (c == 'n') {
+            return '\n';
+        } else if (c == 'f') {
+            return '\f';
+        } else {
+            return c;
+        }
+    }
+
+    private void skipLineBreak() {
+        char c = buffer[pos++];
+        if (c == '\r' && pos < end && buffer[pos] == '\n') {
+            pos++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f' || Character.isWhitespace(c);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f';
+    }
+
+    enum LineType {
+        /**
+         * A line that only consists of whitespace.
+         */
+        BLANK,
+        /**
+         * A comment line starting with <code>#</code> or <code>!</code>.
+         */
+        COMMENT,
+        /**
+         * A key value pair.
+         */
+        PROPERTY
+    }
+
+}
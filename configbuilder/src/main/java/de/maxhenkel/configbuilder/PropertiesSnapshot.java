@@ -0,0 +1,140 @@
+package de.maxhenkel.configbuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * A binary cache of parsed property files.
+ * <br/>
+ * The parsed header comments, properties and comments are stored in a sidecar snapshot file next to the property file,
+ * which is validated against the size, modification time and CRC32 checksum of the property file and the charset it was decoded with.
+ * Loading a valid snapshot is a single bulk read without any parsing or escape decoding.
+ * If the snapshot is missing, outdated or corrupted, the property file is parsed and the snapshot is rewritten.
+ */
+class PropertiesSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(PropertiesSnapshot.class.getName());
+
+    private static final int MAGIC = 0x43424253;
+    private static final int VERSION = 1;
+
+    /**
+     * Loads the provided property file from its snapshot or parses it if the snapshot is not valid.
+     *
+     * @param properties the properties to load into
+     * @param path       the property file
+     * @param charset    the charset of the property file
+     * @throws IOException if the property file can't be read
+     */
+    static void load(CommentedProperties properties, Path path, Charset charset) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            file = PropertiesParser.read(channel, path);
+        }
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        CRC32 crc = new CRC32();
+        crc.update(file.duplicate());
+        long checksum = crc.getValue();
+        byte[] charsetName = charset.name().getBytes(StandardCharsets.US_ASCII);
+
+        Path snapshotPath = snapshotPath(path);
+        if (readSnapshot(properties, snapshotPath, file.remaining(), modified, checksum, charsetName)) {
+            return;
+        }
+        properties.load(PropertiesParser.fromBytes(file.duplicate(), charset));
+        writeSnapshot(snapshotPath, file.remaining(), modified, checksum, charsetName, properties.toSnapshot());
+    }
+
+    /**
+     * @param path the property file
+     * @return the path of the sidecar snapshot file
+     */
+    static Path snapshotPath(Path path) {
+        return path.resolveSibling(String.format(".%s.bin", path.getFileName()));
+    }
+
+    private static int headerSize(byte[] charsetName) {
+        // Magic, version, file size, modification time, checksum, charset name length and charset name
+        return 4 + 4 + 8 + 8 + 8 + 4 + charsetName.length;
+    }
+
+    private static boolean readSnapshot(CommentedProperties properties, Path snapshotPath, long fileSize, long modified, long checksum, byte[] charsetName) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            ByteBuffer snapshot = PropertiesParser.read(channel, snapshotPath);
+            int headerSize = headerSize(charsetName);
+            if (snapshot.remaining() < headerSize
+                    || snapshot.getInt() != MAGIC
+                    || snapshot.getInt() != VERSION
+                    || snapshot.getLong() != fileSize
+                    || snapshot.getLong() != modified
+                    || snapshot.getLong() != checksum
+                    || snapshot.getInt() != charsetName.length) {
+                return false;
+            }
+            for (byte b : charsetName) {
+                if (snapshot.get() != b) {
+                    return false;
+                }
+            }
+            if (snapshot.remaining() % 2 != 0) {
+                return false;
+            }
+            char[] chars = new char[snapshot.remaining() / 2];
+            snapshot.asCharBuffer().get(chars);
+            properties.loadSnapshot(chars, 0, chars.length);
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to read config snapshot", e);
+            return false;
+        }
+    }
+
+    private static void writeSnapshot(Path snapshotPath, long fileSize, long modified, long checksum, byte[] charsetName, char[] chars) {
+        ByteBuffer snapshot = ByteBuffer.allocate(headerSize(charsetName) + chars.length * 2);
+        snapshot.putInt(MAGIC);
+        snapshot.putInt(VERSION);
+        snapshot.putLong(fileSize);
+        snapshot.putLong(modified);
+        snapshot.putLong(checksum);
+        snapshot.putInt(charsetName.length);
+        snapshot.put(charsetName);
+        CharBuffer body = snapshot.asCharBuffer();
+        body.put(chars);
+        snapshot.position(snapshot.position() + chars.length * 2);
+        snapshot.flip();
+
+        Path tempFile = snapshotPath.resolveSibling(String.format("%s.tmp", snapshotPath.getFileName()));
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) {
+                    channel.write(snapshot);
+                }
+            }
+            try {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The properties were already parsed, so the snapshot is just rewritten on the next load
+            LOGGER.log(Level.WARNING, "Failed to write config snapshot", e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Failed to delete temporary config snapshot", ex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package de.maxhenkel.configbuilder;
+
+/**
+ * Controls how durable a config save is.
+ * <br/>
+ * Configs are always written to a temporary file first, which then atomically replaces the config file.
+ * This guarantees that the config file is never left half-written,
+ * the durability only controls whether the data is also guaranteed to have reached the disk.
+ */
+public enum SaveDurability {
+
+    /**
+     * The file is not synced to the disk.
+     * <br/>
+     * A power loss shortly after saving may lose the saved changes.
+     */
+    NONE,
+    /**
+     * The contents of the file are synced to the disk once before replacing the config file.
+     */
+    SYNC_FILE,
+    /**
+     * The contents of the file are synced to the disk once before replacing the config file
+     * and the parent directory is synced after replacing it, so the replacement itself is durable.
+     * <br/>
+     * Syncing directories is not supported on all platforms and is skipped where it isn't.
+     */
+    SYNC_FILE_AND_DIRECTORY
+
+}
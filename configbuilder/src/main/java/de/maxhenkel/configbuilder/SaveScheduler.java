@@ -0,0 +1,287 @@
+package de.maxhenkel.configbuilder;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves configs asynchronously and coalesces saves of the same config file.
+ * <br/>
+ * A save that is requested while another save of the same file is still pending is merged into the pending save.
+ * Since the config is rendered when the save is actually executed, the pending save always writes the latest state.
+ * <br/>
+ * Configs can delay their saves with {@link CommentedPropertyConfig.Builder#saveDelay(java.time.Duration)},
+ * so that a burst of changes only results in a single write.
+ * <br/>
+ * The saves are executed on an {@link Executor}, which can be provided by the application.
+ * Saves of the same file never run concurrently, even if they were scheduled by different schedulers,
+ * so the file always ends up with the state of the last save.
+ */
+public class SaveScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(SaveScheduler.class.getName());
+    /**
+     * Hands delayed saves to the executor of their scheduler once their delay expired.
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("ConfigSaveTimer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The locks that prevent concurrent saves of the same file.
+     * <br/>
+     * A lock is removed as soon as no save holds or waits for it, so that files that are no longer saved don't keep their lock.
+     */
+    private static final Map<Path, FileLock> FILE_LOCKS = new ConcurrentHashMap<>();
+    private static final Set<SaveScheduler> SCHEDULERS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final SaveScheduler DEFAULT = new SaveScheduler();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SaveScheduler::flushAll, "ConfigSaverShutdown"));
+    }
+
+    private final Executor executor;
+    /**
+     * The executor that was created by this scheduler and is shut down together with it.
+     */
+    @Nullable
+    private final ExecutorService ownExecutor;
+    private final Map<Path, PendingSave> pendingSaves;
+    private final AtomicLong coalescedSaves;
+    private final AtomicLong completedSaves;
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a scheduler that saves the configs on virtual threads when running on Java 21 or newer
+     * and on a single daemon thread otherwise.
+     */
+    public SaveScheduler() {
+        this(createDefaultExecutor(), true);
+    }
+
+    /**
+     * Creates a scheduler that saves the configs on the provided executor.
+     * <br/>
+     * Note that the executor is not shut down when this scheduler is shut down.
+     *
+     * @param executor the executor that executes the saves
+     */
+    public SaveScheduler(Executor executor) {
+        this(Objects.requireNonNull(executor), false);
+    }
+
+    private SaveScheduler(Executor executor, boolean ownExecutor) {
+        this.executor = executor;
+        this.ownExecutor = ownExecutor ? (ExecutorService) executor : null;
+        this.pendingSaves = new ConcurrentHashMap<>();
+        this.coalescedSaves = new AtomicLong();
+        this.completedSaves = new AtomicLong();
+        SCHEDULERS.add(this);
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            // Virtual threads are only available on Java 21 or newer
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("ConfigSaver");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * @return the scheduler that is shared by all configs that don't specify their own
+     */
+    public static SaveScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Schedules a save of the provided config.
+     * <br/>
+     * If a save of the same file is already pending, the save is coalesced into the pending one.
+     *
+     * @param config the config to save
+     */
+    void schedule(CommentedPropertyConfig config) {
+        Path path = config.path;
+        if (path == null) {
+            return;
+        }
+        PendingSave pendingSave = new PendingSave(config);
+        PendingSave existing = pendingSaves.putIfAbsent(path, pendingSave);
+        if (existing != null) {
+            existing.config = config;
+            coalescedSaves.incrementAndGet();
+            return;
+        }
+        long delay = config.saveDelay.toNanos();
+        if (delay <= 0L) {
+            execute(path, pendingSave);
+            return;
+        }
+        try {
+            TIMER.schedule(() -> execute(path, pendingSave), delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            run(path, pendingSave);
+        }
+    }
+
+    private void execute(Path path, PendingSave pendingSave) {
+        if (shutdown) {
+            // The scheduler was shut down, so the config is saved on the current thread
+            run(path, pendingSave);
+            return;
+        }
+        try {
+            executor.execute(() -> run(path, pendingSave));
+        } catch (RejectedExecutionException e) {
+            run(path, pendingSave);
+        }
+    }
+
+    private void run(Path path, PendingSave pendingSave) {
+        // Removing the pending save before saving makes sure that every change after this point schedules a new save
+        if (!pendingSaves.remove(path, pendingSave)) {
+            return;
+        }
+        FileLock lock = acquireFileLock(path);
+        lock.lock();
+        try {
+            CommentedPropertyConfig config = pendingSave.config;
+            long queueWait = System.nanoTime() - pendingSave.queuedNanos;
+            ConfigMetrics metrics = config.metrics;
+            if (metrics != null) {
+                metrics.onQueuedSave(path, queueWait);
+            }
+            Object event = ConfigEvents.beginQueuedSave();
+            try {
+                config.saveSync();
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Failed to save config", e);
+            }
+            ConfigEvents.commitQueuedSave(event, path, queueWait);
+        } finally {
+            lock.unlock();
+            releaseFileLock(path);
+        }
+        completedSaves.incrementAndGet();
+    }
+
+    private static FileLock acquireFileLock(Path path) {
+        return FILE_LOCKS.compute(path, (p, lock) -> {
+            if (lock == null) {
+                lock = new FileLock();
+            }
+            lock.users++;
+            return lock;
+        });
+    }
+
+    private static void releaseFileLock(Path path) {
+        FILE_LOCKS.computeIfPresent(path, (p, lock) -> --lock.users <= 0 ? null : lock);
+    }
+
+    /**
+     * Immediately saves all pending configs on the current thread.
+     */
+    public void flush() {
+        for (Map.Entry<Path, PendingSave> entry : pendingSaves.entrySet()) {
+            run(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void flushAll() {
+        List<SaveScheduler> schedulers;
+        synchronized (SCHEDULERS) {
+            schedulers = new ArrayList<>(SCHEDULERS);
+        }
+        for (SaveScheduler scheduler : schedulers) {
+            scheduler.flush();
+        }
+    }
+
+    /**
+     * Saves all pending configs and stops the scheduler.
+     * <br/>
+     * Configs that are saved after the scheduler was shut down are saved synchronously.
+     * Executors that were provided by the application are not shut down.
+     * <br/>
+     * Note that the default scheduler can't be shut down.
+     */
+    public void shutdown() {
+        if (this == DEFAULT) {
+            throw new IllegalStateException("The default save scheduler can't be shut down");
+        }
+        shutdown = true;
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * @return the number of config files that are waiting to be saved
+     */
+    public int getQueueDepth() {
+        return pendingSaves.size();
+    }
+
+    /**
+     * @return the number of saves that were merged into an already pending save
+     */
+    public long getCoalescedSaves() {
+        return coalescedSaves.get();
+    }
+
+    /**
+     * @return the number of saves that were executed
+     */
+    public long getCompletedSaves() {
+        return completedSaves.get();
+    }
+
+    /**
+     * A lock that counts the saves that hold or wait for it.
+     * <br/>
+     * The count is only modified while computing the entry in {@link #FILE_LOCKS}, which is atomic per file.
+     * This is not a monitor, so that saves on virtual threads don't pin their carrier thread while blocking on file I/O.
+     */
+    private static class FileLock extends ReentrantLock {
+        private int users;
+    }
+
+    private static class PendingSave {
+        private volatile CommentedPropertyConfig config;
+        private final long queuedNanos;
+
+        private PendingSave(CommentedPropertyConfig config) {
+            this.config = config;
+            this.queuedNanos = System.nanoTime();
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+package de.maxhenkel.configbuilder;
+
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializable;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Resolves the value serializers of custom entry types.
+ * <br/>
+ * A type is resolved by checking the type itself, its superclasses and then all of its interfaces.
+ * For every checked type, a registered serializer takes precedence over a serializer that is declared with {@link ValueSerializable}.
+ * The serializer of a superclass or interface is only used if it declares that it produces values of the type itself,
+ * e.g. a <code>ValueSerializer&lt;Circle&gt;</code> that is registered for the interface <code>Shape</code>.
+ * Otherwise, it would deserialize values that are not an instance of the type, so the type is not supported.
+ * <br/>
+ * Resolved serializers are cached per type.
+ * Serializers that are declared with {@link ValueSerializable} are only instantiated once and shared by all configs.
+ */
+class ValueSerializerRegistry {
+
+    /**
+     * The shared instances of serializer classes that are referenced by {@link ValueSerializable}.
+     */
+    private static final ClassValue<ValueSerializer<?>> SERIALIZER_INSTANCES = new ClassValue<ValueSerializer<?>>() {
+        @Override
+        protected ValueSerializer<?> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (ValueSerializer<?>) constructor.newInstance();
+            } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e) {
+                throw new IllegalArgumentException("Could not instantiate value serializer", e);
+            }
+        }
+    };
+
+    /**
+     * The serializers that are declared with {@link ValueSerializable} on a type.
+     */
+    private static final ClassValue<Optional<ValueSerializer<?>>> ANNOTATED_SERIALIZERS = new ClassValue<Optional<ValueSerializer<?>>>() {
+        @Override
+        protected Optional<ValueSerializer<?>> computeValue(Class<?> type) {
+            ValueSerializable annotation = type.getDeclaredAnnotation(ValueSerializable.class);
+            if (annotation == null) {
+                return Optional.empty();
+            }
+            return Optional.of(SERIALIZER_INSTANCES.get(annotation.value()));
+        }
+    };
+
+    /**
+     * The types that serializer classes declare as the type argument of {@link ValueSerializer}.
+     */
+    private static final ClassValue<Optional<Class<?>>> PRODUCED_TYPES = new ClassValue<Optional<Class<?>>>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(findProducedType(type));
+        }
+    };
+
+    private final Map<Class<?>, ValueSerializer<?>> serializers;
+    private final Map<Class<?>, Optional<ValueSerializer<?>>> resolvedSerializers;
+
+    /**
+     * @param serializers the registered serializers
+     */
+    ValueSerializerRegistry(Map<Class<?>, ValueSerializer<?>> serializers) {
+        this.serializers = serializers;
+        this.resolvedSerializers = new HashMap<>();
+    }
+
+    /**
+     * @param type the type
+     * @return the registered serializer of exactly this type or <code>null</code> if there is none
+     */
+    @Nullable
+    ValueSerializer<?> get(Class<?> type) {
+        return serializers.get(type);
+    }
+
+    /**
+     * @param type the type
+     * @return the serializer for the type or <code>null</code> if the type is not supported
+     * @throws IllegalArgumentException if a serializer declared with {@link ValueSerializable} could not be instantiated
+     */
+    @Nullable
+    ValueSerializer<?> resolve(Class<?> type) {
+        Optional<ValueSerializer<?>> resolved = resolvedSerializers.get(type);
+        if (resolved == null) {
+            resolved = Optional.ofNullable(resolveUncached(type));
+            resolvedSerializers.put(type, resolved);
+        }
+        return resolved.orElse(null);
+    }
+
+    @Nullable
+    private ValueSerializer<?> resolveUncached(Class<?> type) {
+        ValueSerializer<?> serializer = lookup(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        serializer = resolveSupertype(type);
+        if (serializer == null) {
+            return null;
+        }
+        Class<?> producedType = PRODUCED_TYPES.get(serializer.getClass()).orElse(null);
+        if (producedType == null || !type.isAssignableFrom(producedType)) {
+            return null;
+        }
+        return serializer;
+    }
+
+    @Nullable
+    private ValueSerializer<?> resolveSupertype(Class<?> type) {
+        List<Class<?>> interfaces = new ArrayList<>(Arrays.asList(type.getInterfaces()));
+        for (Class<?> c = type.getSuperclass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            ValueSerializer<?> serializer = lookup(c);
+            if (serializer != null) {
+                return serializer;
+            }
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        // Interfaces are checked breadth first, so that more specific interfaces take precedence
+        Set<Class<?>> visited = new HashSet<>();
+        for (int i = 0; i < interfaces.size(); i++) {
+            Class<?> c = interfaces.get(i);
+            if (!visited.add(c)) {
+                continue;
+            }
+            ValueSerializer<?> serializer = lookup(c);
+            if (serializer != null) {
+                return serializer;
+            }
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        return null;
+    }
+
+    @Nullable
+    private ValueSerializer<?> lookup(Class<?> type) {
+        ValueSerializer<?> serializer = serializers.get(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        return ANNOTATED_SERIALIZERS.get(type).orElse(null);
+    }
+
+    /**
+     * @param type the serializer class
+     * @return the type argument of {@link ValueSerializer} or <code>null</code> if it is not declared as a class
+     */
+    @Nullable
+    private static Class<?> findProducedType(Class<?> type) {
+        List<Type> supertypes = new ArrayList<>(Arrays.asList(type.getGenericInterfaces()));
+        supertypes.add(type.getGenericSuperclass());
+        for (Type supertype : supertypes) {
+            if (supertype instanceof ParameterizedType && ((ParameterizedType) supertype).getRawType() == ValueSerializer.class) {
+                Type argument = ((ParameterizedType) supertype).getActualTypeArguments()[0];
+                if (argument instanceof ParameterizedType) {
+                    argument = ((ParameterizedType) argument).getRawType();
+                }
+                return argument instanceof Class ? (Class<?>) argument : null;
+            }
+        }
+        for (Type supertype : supertypes) {
+            Class<?> rawType = supertype instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) supertype).getRawType() : (Class<?>) supertype;
+            if (rawType != null && ValueSerializer.class.isAssignableFrom(rawType)) {
+                return findProducedType(rawType);
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,40 @@
+package de.maxhenkel.configbuilder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or interface whose members are config entries.
+ * <br/>
+ * The config annotation processor generates a class with the suffix <code>Entries</code> for every annotated type,
+ * which creates all entries with a {@link de.maxhenkel.configbuilder.ConfigBuilder}.
+ * <br/>
+ * Every non-static and non-transient field of a class is an entry, the default value is the value of the field after calling the no-argument constructor.
+ * <br/>
+ * Every default method without parameters of an interface is an entry, the default value is the value returned by the default method.
+ * The generated class implements the interface and returns the current values of the entries.
+ * <br/>
+ * Example:
+ * <pre>{@code
+ * @ConfigClass(header = "My config")
+ * public class ServerConfig {
+ *     @ConfigValue(comments = "The port of the server")
+ *     @Range(min = 1, max = 65535)
+ *     public int port = 25565;
+ * }
+ *
+ * ServerConfigEntries config = ServerConfigEntries.builder().path(Paths.get("server.properties")).build();
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConfigClass {
+
+    /**
+     * @return the header comments of the config
+     */
+    String[] header() default {};
+
+}
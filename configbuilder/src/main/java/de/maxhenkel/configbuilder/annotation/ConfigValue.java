@@ -0,0 +1,27 @@
+package de.maxhenkel.configbuilder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the entry of a field or method in a {@link ConfigClass}.
+ * <br/>
+ * Members without this annotation are still entries, their key is the name of the member.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ConfigValue {
+
+    /**
+     * @return the config key or an empty string to use the name of the member
+     */
+    String key() default "";
+
+    /**
+     * @return the comments of the entry
+     */
+    String[] comments() default {};
+
+}
@@ -0,0 +1,22 @@
+package de.maxhenkel.configbuilder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link de.maxhenkel.configbuilder.entry.serializer.ValueSerializer} for the annotated type with the config annotation processor.
+ * <br/>
+ * The generated serializer has the suffix <code>ValueSerializer</code> and a shared <code>INSTANCE</code>.
+ * Values are serialized with {@link Object#toString()} and deserialized with a public static <code>fromString(String)</code> method,
+ * a public static <code>valueOf(String)</code> method or a public constructor with a single string parameter.
+ * Values that can't be deserialized because an {@link IllegalArgumentException} was thrown are replaced with the default value.
+ * <br/>
+ * Entries of {@link ConfigClass} types with this type use the generated serializer directly.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateValueSerializer {
+
+}
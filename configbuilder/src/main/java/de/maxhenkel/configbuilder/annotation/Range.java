@@ -0,0 +1,28 @@
+package de.maxhenkel.configbuilder.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the value of an integer, long, float or double entry in a {@link ConfigClass}.
+ * <br/>
+ * Infinite bounds mean that the value is not limited in that direction.
+ * The bounds of integer and long entries must be whole numbers.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Range {
+
+    /**
+     * @return the minimum value
+     */
+    double min() default Double.NEGATIVE_INFINITY;
+
+    /**
+     * @return the maximum value
+     */
+    double max() default Double.POSITIVE_INFINITY;
+
+}
@@ -0,0 +1,119 @@
+package de.maxhenkel.configbuilder.custom;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * An unmodifiable set intended to be used as a config entry.
+ * <br/>
+ * The elements are stored in a hash set that keeps the insertion order,
+ * so checking if the set contains an element doesn't depend on its size.
+ * Duplicate elements are only kept once.
+ * <br/>
+ * Like other sets, two sets are equal if they contain the same elements, regardless of their order.
+ * Config entries additionally compare the order with {@link #equalsInOrder(Object)},
+ * so that changing only the order of the elements is detected as a change of the entry.
+ */
+public abstract class AbstractValueSet<T> extends AbstractSet<T> {
+
+    protected final Set<T> set;
+
+    protected AbstractValueSet(T... values) {
+        this(Arrays.asList(values));
+    }
+
+    protected AbstractValueSet(Collection<T> values) {
+        set = Collections.unmodifiableSet(new LinkedHashSet<>(values));
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return set.iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return set.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return set.toArray(a);
+    }
+
+    @Override
+    public boolean add(T t) {
+        return throwException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return throwException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return set.containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return throwException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return throwException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return throwException();
+    }
+
+    @Override
+    public void clear() {
+        throwException();
+    }
+
+    /**
+     * @param o the object to compare with
+     * @return if the provided object is a set that contains the same elements in the same iteration order
+     */
+    public boolean equalsInOrder(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Set) || ((Set<?>) o).size() != set.size()) {
+            return false;
+        }
+        Iterator<T> iterator = set.iterator();
+        Iterator<?> otherIterator = ((Set<?>) o).iterator();
+        while (iterator.hasNext()) {
+            if (!Objects.equals(iterator.next(), otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T throwException() {
+        throw new UnsupportedOperationException("Can't modify config entries");
+    }
+
+}
@@ -0,0 +1,209 @@
+package de.maxhenkel.configbuilder.custom;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+
+/**
+ * An unmodifiable double list that can be used as a config entry.
+ * <br/>
+ * The list is serialized as a string with the elements separated by a comma.
+ * <br/>
+ * The elements are stored in a <code>double</code> array, so the list doesn't hold boxed doubles.
+ * Use {@link #getDouble(int)}, {@link #contains(double)} and {@link #toDoubleArray()} to access the elements without boxing them.
+ * Lists that are sorted in ascending order are searched with a binary search.
+ * <br/>
+ * Elements are compared like {@link Double#equals(Object)}, so <code>NaN</code> is equal to itself and <code>0.0</code> is not equal to <code>-0.0</code>.
+ */
+public class DoubleList extends AbstractValueList<Double> {
+
+    private final double[] values;
+    private final boolean sorted;
+
+    protected DoubleList(Double... values) {
+        this(Arrays.asList(values));
+    }
+
+    protected DoubleList(List<Double> values) {
+        this(toArray(values));
+    }
+
+    /**
+     * Note that the array is not copied.
+     *
+     * @param values the elements
+     */
+    protected DoubleList(double[] values) {
+        super(new View(values));
+        this.values = values;
+        this.sorted = isSorted(values);
+    }
+
+    public static DoubleList of(Double... values) {
+        return new DoubleList(values);
+    }
+
+    public static DoubleList of(List<Double> values) {
+        return new DoubleList(values);
+    }
+
+    public static DoubleList of(double[] values) {
+        return new DoubleList(values.clone());
+    }
+
+    /**
+     * Creates a list that is backed by the provided array without copying it.
+     * <br/>
+     * The array must not be modified afterwards.
+     *
+     * @param values the elements
+     * @return the list
+     */
+    public static DoubleList wrap(double[] values) {
+        return new DoubleList(values);
+    }
+
+    private static double[] toArray(List<Double> list) {
+        double[] values = new double[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list.get(i);
+        }
+        return values;
+    }
+
+    private static boolean isSorted(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (Double.compare(values[i - 1], values[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index the index
+     * @return the element at the index
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return a copy of the elements
+     */
+    public double[] toDoubleArray() {
+        return values.clone();
+    }
+
+    /**
+     * @return a stream of the elements
+     */
+    public DoubleStream doubleStream() {
+        return Arrays.stream(values);
+    }
+
+    /**
+     * @return if the elements are sorted in ascending order
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Searches the element with a binary search.
+     *
+     * @param value the element to search
+     * @return the index of the element or <code>(-(insertion point) - 1)</code> if the list doesn't contain the element
+     * @throws IllegalStateException if the list is not sorted
+     * @see Arrays#binarySearch(double[], double)
+     */
+    public int binarySearch(double value) {
+        if (!sorted) {
+            throw new IllegalStateException("List is not sorted");
+        }
+        return Arrays.binarySearch(values, value);
+    }
+
+    /**
+     * @param value the element
+     * @return the index of the first occurrence of the element or <code>-1</code> if the list doesn't contain the element
+     */
+    public int indexOf(double value) {
+        if (sorted) {
+            int index = Arrays.binarySearch(values, value);
+            if (index < 0) {
+                return -1;
+            }
+            // The binary search doesn't necessarily find the first occurrence
+            while (index > 0 && Double.compare(values[index - 1], value) == 0) {
+                index--;
+            }
+            return index;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (Double.compare(values[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value the element
+     * @return if the list contains the element
+     */
+    public boolean contains(double value) {
+        if (sorted) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Double && contains((double) (Double) o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Double ? indexOf((double) (Double) o) : -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(values, ((DoubleList) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        // Equal to the hash code of a list with the same boxed elements
+        return Arrays.hashCode(values);
+    }
+
+    private static class View extends AbstractList<Double> implements RandomAccess {
+        private final double[] values;
+
+        private View(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package de.maxhenkel.configbuilder.custom;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+
+/**
+ * An unmodifiable long list that can be used as a config entry.
+ * <br/>
+ * The list is serialized as a string with the elements separated by a comma.
+ * <br/>
+ * The elements are stored in a <code>long</code> array, so the list doesn't hold boxed longs.
+ * Use {@link #getLong(int)}, {@link #contains(long)} and {@link #toLongArray()} to access the elements without boxing them.
+ * Lists that are sorted in ascending order are searched with a binary search.
+ */
+public class LongList extends AbstractValueList<Long> {
+
+    private final long[] values;
+    private final boolean sorted;
+
+    protected LongList(Long... values) {
+        this(Arrays.asList(values));
+    }
+
+    protected LongList(List<Long> values) {
+        this(toArray(values));
+    }
+
+    /**
+     * Note that the array is not copied.
+     *
+     * @param values the elements
+     */
+    protected LongList(long[] values) {
+        super(new View(values));
+        this.values = values;
+        this.sorted = isSorted(values);
+    }
+
+    public static LongList of(Long... values) {
+        return new LongList(values);
+    }
+
+    public static LongList of(List<Long> values) {
+        return new LongList(values);
+    }
+
+    public static LongList of(long[] values) {
+        return new LongList(values.clone());
+    }
+
+    /**
+     * Creates a list that is backed by the provided array without copying it.
+     * <br/>
+     * The array must not be modified afterwards.
+     *
+     * @param values the elements
+     * @return the list
+     */
+    public static LongList wrap(long[] values) {
+        return new LongList(values);
+    }
+
+    private static long[] toArray(List<Long> list) {
+        long[] values = new long[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list.get(i);
+        }
+        return values;
+    }
+
+    private static boolean isSorted(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index the index
+     * @return the element at the index
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return a copy of the elements
+     */
+    public long[] toLongArray() {
+        return values.clone();
+    }
+
+    /**
+     * @return a stream of the elements
+     */
+    public LongStream longStream() {
+        return Arrays.stream(values);
+    }
+
+    /**
+     * @return if the elements are sorted in ascending order
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Searches the element with a binary search.
+     *
+     * @param value the element to search
+     * @return the index of the element or <code>(-(insertion point) - 1)</code> if the list doesn't contain the element
+     * @throws IllegalStateException if the list is not sorted
+     * @see Arrays#binarySearch(long[], long)
+     */
+    public int binarySearch(long value) {
+        if (!sorted) {
+            throw new IllegalStateException("List is not sorted");
+        }
+        return Arrays.binarySearch(values, value);
+    }
+
+    /**
+     * @param value the element
+     * @return the index of the first occurrence of the element or <code>-1</code> if the list doesn't contain the element
+     */
+    public int indexOf(long value) {
+        if (sorted) {
+            int index = Arrays.binarySearch(values, value);
+            if (index < 0) {
+                return -1;
+            }
+            // The binary search doesn't necessarily find the first occurrence
+            while (index > 0 && values[index - 1] == value) {
+                index--;
+            }
+            return index;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value the element
+     * @return if the list contains the element
+     */
+    public boolean contains(long value) {
+        if (sorted) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains((long) (Long) o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Long ? indexOf((long) (Long) o) : -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(values, ((LongList) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        // Equal to the hash code of a list with the same boxed elements
+        return Arrays.hashCode(values);
+    }
+
+    private static class View extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        private View(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+}
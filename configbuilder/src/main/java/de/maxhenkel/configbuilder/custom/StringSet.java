@@ -0,0 +1,29 @@
+package de.maxhenkel.configbuilder.custom;
+
+import java.util.Collection;
+
+/**
+ * An unmodifiable string set that can be used as a config entry.
+ * <br/>
+ * The set is serialized like a {@link StringList}, as a string with the elements separated by a comma.
+ * The elements keep the order in which they were added.
+ */
+public class StringSet extends AbstractValueSet<String> {
+
+    protected StringSet(String... values) {
+        super(values);
+    }
+
+    protected StringSet(Collection<String> values) {
+        super(values);
+    }
+
+    public static StringSet of(String... values) {
+        return new StringSet(values);
+    }
+
+    public static StringSet of(Collection<String> values) {
+        return new StringSet(values);
+    }
+
+}
@@ -0,0 +1,40 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+import de.maxhenkel.configbuilder.custom.DoubleList;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+
+public class DoubleListValueSerializer implements ValueSerializer<DoubleList> {
+
+    public static final DoubleListValueSerializer INSTANCE = new DoubleListValueSerializer();
+
+    @Nullable
+    @Override
+    public DoubleList deserialize(String str) {
+        NumberListParser parser = new NumberListParser(str);
+        double[] values = new double[parser.count()];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = parser.nextDouble();
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        // The parsed array is not used anywhere else, so it doesn't need to be copied
+        return DoubleList.wrap(values);
+    }
+
+    @Override
+    public String serialize(DoubleList val) {
+        StringBuilder sb = new StringBuilder(val.size() * 8);
+        for (int i = 0; i < val.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(val.getDouble(i));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,40 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+import de.maxhenkel.configbuilder.custom.IntegerList;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+
+public class IntegerListValueSerializer implements ValueSerializer<IntegerList> {
+
+    public static final IntegerListValueSerializer INSTANCE = new IntegerListValueSerializer();
+
+    @Nullable
+    @Override
+    public IntegerList deserialize(String str) {
+        NumberListParser parser = new NumberListParser(str);
+        int[] values = new int[parser.count()];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (int) parser.nextLong(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        // The parsed array is not used anywhere else, so it doesn't need to be copied
+        return IntegerList.wrap(values);
+    }
+
+    @Override
+    public String serialize(IntegerList val) {
+        StringBuilder sb = new StringBuilder(val.size() * 4);
+        for (int i = 0; i < val.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(val.getInt(i));
+        }
+        return sb.toString();
+    }
+
+}
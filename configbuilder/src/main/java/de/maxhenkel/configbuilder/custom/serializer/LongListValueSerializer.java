@@ -0,0 +1,40 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+import de.maxhenkel.configbuilder.custom.LongList;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+
+public class LongListValueSerializer implements ValueSerializer<LongList> {
+
+    public static final LongListValueSerializer INSTANCE = new LongListValueSerializer();
+
+    @Nullable
+    @Override
+    public LongList deserialize(String str) {
+        NumberListParser parser = new NumberListParser(str);
+        long[] values = new long[parser.count()];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = parser.nextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        // The parsed array is not used anywhere else, so it doesn't need to be copied
+        return LongList.wrap(values);
+    }
+
+    @Override
+    public String serialize(LongList val) {
+        StringBuilder sb = new StringBuilder(val.size() * 8);
+        for (int i = 0; i < val.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(val.getLong(i));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,108 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+/**
+ * Splits comma separated number lists without regular expressions or intermediate strings.
+ * <br/>
+ * The lists are split like {@link String#split(String)} with a comma,
+ * so trailing empty elements are ignored and an empty string is a list with a single empty element.
+ */
+class NumberListParser {
+
+    private final String str;
+    private final int end;
+    private int position;
+
+    NumberListParser(String str) {
+        this.str = str;
+        int end = str.length();
+        while (end > 0 && str.charAt(end - 1) == ',') {
+            end--;
+        }
+        this.end = end;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    int count() {
+        if (str.isEmpty()) {
+            return 1;
+        }
+        if (end <= 0) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 0; i < end; i++) {
+            if (str.charAt(i) == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int nextSeparator() {
+        int separator = str.indexOf(',', position);
+        return separator < 0 || separator > end ? end : separator;
+    }
+
+    /**
+     * Parses the next element with the same rules as {@link Long#parseLong(String)}.
+     *
+     * @param min the minimum value
+     * @param max the maximum value
+     * @return the next element
+     * @throws NumberFormatException if the element is not a valid number in the range
+     */
+    long nextLong(long min, long max) {
+        int from = position;
+        int to = nextSeparator();
+        position = to + 1;
+        if (from >= to) {
+            throw new NumberFormatException("Empty number");
+        }
+        boolean negative = false;
+        long limit = -max;
+        int i = from;
+        char first = str.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            } else if (first != '+') {
+                throw new NumberFormatException("Invalid number");
+            }
+            if (++i >= to) {
+                throw new NumberFormatException("Invalid number");
+            }
+        }
+        // The value is accumulated negatively, since the negative range is larger than the positive range
+        long multiplyLimit = limit / 10L;
+        long result = 0L;
+        for (; i < to; i++) {
+            int digit = Character.digit(str.charAt(i), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                throw new NumberFormatException("Invalid number");
+            }
+            result *= 10L;
+            if (result < limit + digit) {
+                throw new NumberFormatException("Number out of range");
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the next element with {@link Double#parseDouble(String)}.
+     *
+     * @return the next element
+     * @throws NumberFormatException if the element is not a valid number
+     */
+    double nextDouble() {
+        int from = position;
+        int to = nextSeparator();
+        position = to + 1;
+        return Double.parseDouble(str.substring(from, to));
+    }
+
+}
@@ -0,0 +1,164 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+import de.maxhenkel.configbuilder.custom.StringMap;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Serializes string maps as comma separated <code>"key"="value"</code> pairs.
+ * <br/>
+ * Quotes and backslashes in keys and values are escaped with a backslash.
+ * There can be whitespace around the pairs, the separating commas and the equals signs.
+ * Maps that contain anything else are invalid.
+ */
+public class StringMapValueSerializer implements ValueSerializer<StringMap> {
+
+    public static final StringMapValueSerializer INSTANCE = new StringMapValueSerializer();
+
+    /**
+     * Matches a single pair.
+     *
+     * @deprecated the serializer doesn't use regular expressions anymore
+     */
+    @Deprecated
+    public static final Pattern QUOTE_ESCAPE_PATTERN = Pattern.compile("\"((?:(?![\"\\\\]).|\\\\.)*)\"\\s*=\\s*\"((?:(?![\"\\\\]).|\\\\.)*)\"");
+
+    @Nullable
+    @Override
+    public StringMap deserialize(String str) {
+        Map<String, String> map = new LinkedHashMap<>();
+        StringBuilder sb = new StringBuilder();
+        int length = str.length();
+        int position = 0;
+        // Only a single comma is allowed between two pairs
+        boolean separated = false;
+        while (position < length) {
+            char c = str.charAt(position);
+            if (c == '"') {
+                int keyEnd = quotedEnd(str, position);
+                if (keyEnd < 0) {
+                    return null;
+                }
+                int equals = skipWhitespace(str, keyEnd);
+                if (equals >= length || str.charAt(equals) != '=') {
+                    return null;
+                }
+                int valueStart = skipWhitespace(str, equals + 1);
+                if (valueStart >= length || str.charAt(valueStart) != '"') {
+                    return null;
+                }
+                int valueEnd = quotedEnd(str, valueStart);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                String key = unescape(str, position + 1, keyEnd - 1, sb);
+                map.put(key, unescape(str, valueStart + 1, valueEnd - 1, sb));
+                position = valueEnd;
+                separated = false;
+            } else if (c == ',' && !separated) {
+                separated = true;
+                position++;
+            } else if (c <= ' ') {
+                position++;
+            } else {
+                return null;
+            }
+        }
+        return StringMap.of(map);
+    }
+
+    /**
+     * @param str   the string
+     * @param start the index of the opening quote
+     * @return the index after the closing quote or <code>-1</code> if the quoted string is not valid
+     */
+    private static int quotedEnd(String str, int start) {
+        int length = str.length();
+        for (int i = start + 1; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == '"') {
+                return i + 1;
+            }
+            if (c == '\\') {
+                i++;
+                if (i >= length || isLineTerminator(str.charAt(i))) {
+                    return -1;
+                }
+            } else if (isLineTerminator(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static int skipWhitespace(String str, int position) {
+        int length = str.length();
+        while (position < length) {
+            char c = str.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\u000B' && c != '\f' && c != '\r') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Only escaped quotes and backslashes are unescaped, other escaped characters keep their backslash.
+     */
+    private static String unescape(String str, int from, int to, StringBuilder sb) {
+        int escape = str.indexOf('\\', from);
+        if (escape < 0 || escape >= to) {
+            return str.substring(from, to);
+        }
+        sb.setLength(0);
+        for (int i = from; i < to; i++) {
+            char c = str.charAt(i);
+            if (c == '\\') {
+                char next = str.charAt(++i);
+                if (next != '"' && next != '\\') {
+                    sb.append(c);
+                }
+                sb.append(next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String serialize(StringMap val) {
+        StringBuilder sb = new StringBuilder(val.size() * 16);
+        for (Map.Entry<String, String> entry : val.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append('"');
+            escape(entry.getKey(), sb);
+            sb.append("\"=\"");
+            escape(entry.getValue(), sb);
+            sb.append('"');
+        }
+        return sb.toString();
+    }
+
+    private static void escape(String input, StringBuilder sb) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\\' || c == '"') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+    }
+
+}
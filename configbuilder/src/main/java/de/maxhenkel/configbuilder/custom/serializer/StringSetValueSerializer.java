@@ -0,0 +1,32 @@
+package de.maxhenkel.configbuilder.custom.serializer;
+
+import de.maxhenkel.configbuilder.custom.StringSet;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+/**
+ * Uses the same format as {@link StringListValueSerializer}.
+ */
+public class StringSetValueSerializer implements ValueSerializer<StringSet> {
+
+    public static final StringSetValueSerializer INSTANCE = new StringSetValueSerializer();
+
+    @Override
+    public StringSet deserialize(String str) {
+        return StringSet.of(StringListValueSerializer.INSTANCE.deserialize(str));
+    }
+
+    @Override
+    public String serialize(StringSet val) {
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+        for (String str : val) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append(str.replace(",", "\\,"));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,392 @@
+package de.maxhenkel.configbuilder.entry;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.ConfigMetrics;
+import de.maxhenkel.configbuilder.custom.AbstractValueSet;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public abstract class AbstractConfigEntry<T> implements ConfigEntry<T> {
+
+    protected final CommentedPropertyConfig config;
+    protected final ValueSerializer<T> serializer;
+    protected String[] comments;
+    protected String key;
+    protected T def;
+    @Nullable
+    protected volatile T value;
+    /**
+     * If the value was already deserialized from the config.
+     * This is only <code>false</code> if {@link CommentedPropertyConfig#isLazyDeserialization()} is enabled and the entry wasn't accessed yet.
+     */
+    protected volatile boolean deserialized;
+    protected final List<ConfigEntryListener<T>> listeners;
+
+    public AbstractConfigEntry(CommentedPropertyConfig config, ValueSerializer<T> serializer, String[] comments, String key, T def) {
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(serializer);
+        Objects.requireNonNull(comments);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(def);
+        this.config = config;
+        this.serializer = serializer;
+        this.comments = comments;
+        this.key = key;
+        this.def = def;
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Loads the config entry from the config or sets the default value if it doesn't exist.
+     * <br/>
+     * If {@link CommentedPropertyConfig#isLazyDeserialization()} is enabled, the value is only deserialized when it is accessed for the first time.
+     * Entries with listeners are always deserialized immediately, so that changes can be detected.
+     */
+    public void reload() {
+        if (!hasListeners()) {
+            synchronized (lock()) {
+                if (config.isLazyDeserialization() && config.getProperties().containsKey(key)) {
+                    deserialized = false;
+                    config.getProperties().setComments(key, Arrays.asList(comments));
+                    return;
+                }
+                deserialize();
+            }
+            return;
+        }
+        config.batch(() -> {
+            synchronized (lock()) {
+                // The previous value is unknown if the entry was never deserialized
+                T oldValue = deserialized ? value : null;
+                deserialize();
+                if (oldValue != null) {
+                    config.recordChange(this, oldValue, value);
+                }
+            }
+        });
+    }
+
+    /**
+     * Deserializes the value if it wasn't deserialized yet.
+     */
+    protected void ensureDeserialized() {
+        if (deserialized) {
+            return;
+        }
+        synchronized (lock()) {
+            if (!deserialized) {
+                deserialize();
+            }
+        }
+    }
+
+    /**
+     * The value of an entry is only written while holding the lock of the properties.
+     * <br/>
+     * Reloads and transactions hold the same lock while they modify the properties,
+     * so a lazy first read can't write an outdated value back over a concurrent {@link #set(Object)} or reload.
+     * Always locking the properties first also avoids deadlocks with reloads, which lock the entries while holding the properties.
+     *
+     * @return the lock that guards the value of this entry
+     */
+    private Object lock() {
+        return config.getProperties();
+    }
+
+    private void deserialize() {
+        if (config.getProperties().containsKey(key)) {
+            String str = config.getProperties().get(key);
+            T val = deserializeValue(str);
+            if (val == null) {
+                ConfigMetrics metrics = config.getMetrics();
+                if (metrics != null) {
+                    metrics.onParseFallback(key, str);
+                }
+                resetInternal();
+            } else {
+                updateValue(fixValue(val));
+                syncEntryToProperties();
+            }
+        } else {
+            resetInternal();
+        }
+    }
+
+    @Nullable
+    private T deserializeValue(String str) {
+        ConfigMetrics metrics = config.getMetrics();
+        if (metrics == null) {
+            return serializer.deserialize(str);
+        }
+        long start = System.nanoTime();
+        T val = serializer.deserialize(str);
+        metrics.onDeserialize(key, serializer, System.nanoTime() - start);
+        return val;
+    }
+
+    @Nullable
+    private String serializeValue(T val) {
+        ConfigMetrics metrics = config.getMetrics();
+        if (metrics == null) {
+            return serializer.serialize(val);
+        }
+        long start = System.nanoTime();
+        String str = serializer.serialize(val);
+        metrics.onSerialize(key, serializer, System.nanoTime() - start);
+        return str;
+    }
+
+    @Override
+    public T get() {
+        ensureDeserialized();
+        return value;
+    }
+
+    @Override
+    public AbstractConfigEntry<T> set(T value) {
+        if (deserialized && this.value != null && isSameValue(this.value, value)) {
+            // Avoids locking if nothing changed
+            return this;
+        }
+        if (!hasListeners()) {
+            synchronized (lock()) {
+                setInternal(value);
+            }
+            return this;
+        }
+        config.batch(() -> {
+            synchronized (lock()) {
+                ensureDeserialized();
+                T oldValue = this.value;
+                setInternal(value);
+                config.recordChange(this, oldValue, this.value);
+            }
+        });
+        return this;
+    }
+
+    private void setInternal(T value) {
+        if (deserialized && this.value != null && isSameValue(this.value, value)) {
+            return;
+        }
+        updateValue(fixValue(value));
+        syncEntryToProperties();
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public AbstractConfigEntry<T> comment(String... comments) {
+        synchronized (lock()) {
+            ensureDeserialized();
+            this.comments = comments;
+            syncEntryToProperties();
+        }
+        return this;
+    }
+
+    @Override
+    public String[] getComments() {
+        return comments;
+    }
+
+    @Override
+    public ConfigEntry<T> reset() {
+        if (!hasListeners()) {
+            synchronized (lock()) {
+                resetInternal();
+            }
+            return this;
+        }
+        config.batch(() -> {
+            synchronized (lock()) {
+                ensureDeserialized();
+                T oldValue = value;
+                resetInternal();
+                config.recordChange(this, oldValue, value);
+            }
+        });
+        return this;
+    }
+
+    private void resetInternal() {
+        updateValue(def);
+        syncEntryToProperties();
+    }
+
+    /**
+     * Fixes and serializes the provided value without changing this entry or the properties.
+     * <br/>
+     * This is used by {@link de.maxhenkel.configbuilder.ConfigTransaction transactions},
+     * which serialize all of their values before they change anything.
+     * The lock of the properties must be held until the prepared value is applied.
+     *
+     * @param value the new value
+     * @return the prepared value
+     * @throws IllegalStateException if neither the value nor the default value could be serialized
+     */
+    public PreparedValue prepare(T value) {
+        ensureDeserialized();
+        T fixed = fixValue(value);
+        String serialized = serializeValue(fixed);
+        if (serialized == null) {
+            fixed = def;
+            serialized = serializeValue(def);
+            if (serialized == null) {
+                throw new IllegalStateException("Failed to serialize default value");
+            }
+        }
+        return new PreparedValue(fixed, serialized);
+    }
+
+    /**
+     * A fixed and serialized value that wasn't applied to the entry yet.
+     */
+    public class PreparedValue {
+
+        private final T oldValue;
+        private final T newValue;
+        private final String serialized;
+
+        private PreparedValue(T newValue, String serialized) {
+            this.oldValue = value;
+            this.newValue = newValue;
+            this.serialized = serialized;
+        }
+
+        /**
+         * Writes the serialized value into the properties.
+         */
+        public void writeToProperties() {
+            config.getProperties().set(key, serialized, comments);
+        }
+
+        /**
+         * Publishes the value of the entry and records the change.
+         */
+        public void publish() {
+            updateValue(newValue);
+            config.recordChange(AbstractConfigEntry.this, oldValue, newValue);
+        }
+    }
+
+    private void syncEntryToProperties() {
+        String serialized = serializeValue(value);
+        if (serialized == null) {
+            if (value == def) {
+                throw new IllegalStateException("Failed to serialize default value");
+            }
+            resetInternal();
+            return;
+        }
+        config.getProperties().set(key, serialized, comments);
+    }
+
+    @Override
+    public AbstractConfigEntry<T> addListener(ConfigEntryListener<T> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    @Override
+    public AbstractConfigEntry<T> removeListener(ConfigEntryListener<T> listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * @return an unmodifiable list containing the listeners of this entry
+     */
+    public List<ConfigEntryListener<T>> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    private boolean hasListeners() {
+        return !listeners.isEmpty() || config.hasListeners();
+    }
+
+    @Override
+    public ConfigEntry<T> save() {
+        config.save();
+        return this;
+    }
+
+    @Override
+    public ConfigEntry<T> saveSync() {
+        config.saveSync();
+        return this;
+    }
+
+    /**
+     * Stores the new value of this entry.
+     * <br/>
+     * {@link #deserialized} is written last, so that threads that see it set also see the new value and its primitive.
+     *
+     * @param value the new value
+     */
+    final void updateValue(T value) {
+        updatePrimitiveValue(value);
+        this.value = value;
+        deserialized = true;
+    }
+
+    /**
+     * Called by {@link #updateValue(Object)} before the new value is published.
+     * <br/>
+     * Entries that additionally store their value as a primitive override this to keep both in sync.
+     *
+     * @param value the new value
+     */
+    void updatePrimitiveValue(T value) {
+
+    }
+
+    /**
+     * Checks if two values of this entry are the same, so that setting one over the other is not a change.
+     * <br/>
+     * Unlike {@link Object#equals(Object)}, {@link AbstractValueSet value sets} are only the same if their elements are in the same order.
+     *
+     * @param value1 the first value
+     * @param value2 the second value
+     * @return if the values are the same
+     */
+    public boolean isSameValue(@Nullable T value1, @Nullable T value2) {
+        if (value1 instanceof AbstractValueSet) {
+            return ((AbstractValueSet<?>) value1).equalsInOrder(value2);
+        }
+        return Objects.equals(value1, value2);
+    }
+
+    /**
+     * Fixes the value if it is invalid or out of bounds.
+     *
+     * @param value the value to fix
+     * @return the fixed value
+     */
+    T fixValue(T value) {
+        return value;
+    }
+
+    @Override
+    public T getDefault() {
+        return def;
+    }
+
+    @Override
+    public CommentedPropertyConfig getConfig() {
+        return config;
+    }
+
+    public ValueSerializer<T> getSerializer() {
+        return serializer;
+    }
+}
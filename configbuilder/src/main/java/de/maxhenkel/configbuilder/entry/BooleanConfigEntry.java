@@ -0,0 +1,33 @@
+package de.maxhenkel.configbuilder.entry;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import java.util.function.BooleanSupplier;
+
+public class BooleanConfigEntry extends AbstractConfigEntry<Boolean> implements BooleanSupplier {
+
+    protected volatile boolean booleanValue;
+
+    public BooleanConfigEntry(CommentedPropertyConfig config, ValueSerializer<Boolean> serializer, String[] comments, String key, Boolean def) {
+        super(config, serializer, comments, key, def);
+        reload();
+    }
+
+    @Override
+    void updatePrimitiveValue(Boolean value) {
+        this.booleanValue = value;
+    }
+
+    /**
+     * Gets the current value without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    @Override
+    public boolean getAsBoolean() {
+        ensureDeserialized();
+        return booleanValue;
+    }
+
+}
@@ -42,6 +42,31 @@ public interface ConfigEntry<T> {
      */
     ConfigEntry<T> reset();
 
+    /**
+     * Adds a listener that is notified when the value of this entry changes.
+     * <br/>
+     * Changes that happen during a reload or {@link de.maxhenkel.configbuilder.CommentedPropertyConfig#batch(Runnable) batch} are delivered after it completed.
+     * Listeners are only notified if the value is actually different.
+     * <br/>
+     * Entries that don't support listeners throw an {@link UnsupportedOperationException}.
+     *
+     * @param listener the listener
+     * @return the config entry
+     * @throws UnsupportedOperationException if the entry doesn't support listeners
+     */
+    default ConfigEntry<T> addListener(ConfigEntryListener<T> listener) {
+        throw new UnsupportedOperationException("Config entry doesn't support listeners");
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return the config entry
+     * @throws UnsupportedOperationException if the entry doesn't support listeners
+     */
+    default ConfigEntry<T> removeListener(ConfigEntryListener<T> listener) {
+        throw new UnsupportedOperationException("Config entry doesn't support listeners");
+    }
+
     /**
      * Saves the config to the disk asynchronously.
      * <br/>
@@ -0,0 +1,14 @@
+package de.maxhenkel.configbuilder.entry;
+
+import de.maxhenkel.configbuilder.ConfigChange;
+
+public interface ConfigEntryListener<T> {
+
+    /**
+     * Called when the value of the config entry changed.
+     *
+     * @param change the change
+     */
+    void onChange(ConfigChange<T> change);
+
+}
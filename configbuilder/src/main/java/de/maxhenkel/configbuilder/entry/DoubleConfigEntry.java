@@ -5,8 +5,11 @@ import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.function.DoubleSupplier;
 
-public class DoubleConfigEntry extends AbstractRangedConfigEntry<Double> {
+public class DoubleConfigEntry extends AbstractRangedConfigEntry<Double> implements DoubleSupplier {
+
+    protected volatile double doubleValue;
 
     public DoubleConfigEntry(CommentedPropertyConfig config, ValueSerializer<Double> serializer, String[] comments, String key, Double def, @Nullable Double min, @Nullable Double max) {
         super(config, serializer, comments, key, def, min, max);
@@ -27,7 +30,28 @@ public class DoubleConfigEntry extends AbstractRangedConfigEntry<Double> {
 
     @Override
     Double fixValue(Double value) {
-        return Math.max(Math.min(value, max), min);
+        double fixed = Math.max(Math.min(value, max), min);
+        if (Double.compare(fixed, value) == 0) {
+            // Avoids boxing the value again if it is already in range
+            return value;
+        }
+        return fixed;
+    }
+
+    @Override
+    void updatePrimitiveValue(Double value) {
+        this.doubleValue = value;
+    }
+
+    /**
+     * Gets the current value without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    @Override
+    public double getAsDouble() {
+        ensureDeserialized();
+        return doubleValue;
     }
 
 }
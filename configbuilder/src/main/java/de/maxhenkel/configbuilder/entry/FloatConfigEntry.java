@@ -0,0 +1,67 @@
+package de.maxhenkel.configbuilder.entry;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.DoubleSupplier;
+
+public class FloatConfigEntry extends AbstractRangedConfigEntry<Float> implements DoubleSupplier {
+
+    protected volatile float floatValue;
+
+    public FloatConfigEntry(CommentedPropertyConfig config, ValueSerializer<Float> serializer, String[] comments, String key, Float def, @Nullable Float min, @Nullable Float max) {
+        super(config, serializer, comments, key, def, min, max);
+        reload();
+    }
+
+    @Nonnull
+    @Override
+    Float minimumPossibleValue() {
+        return Float.MIN_VALUE;
+    }
+
+    @Nonnull
+    @Override
+    Float maximumPossibleValue() {
+        return Float.MAX_VALUE;
+    }
+
+    @Override
+    Float fixValue(Float value) {
+        float fixed = Math.max(Math.min(value, max), min);
+        if (Float.compare(fixed, value) == 0) {
+            // Avoids boxing the value again if it is already in range
+            return value;
+        }
+        return fixed;
+    }
+
+    @Override
+    void updatePrimitiveValue(Float value) {
+        this.floatValue = value;
+    }
+
+    /**
+     * Gets the current value without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    public float getAsFloat() {
+        ensureDeserialized();
+        return floatValue;
+    }
+
+    /**
+     * Gets the current value as a double without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    @Override
+    public double getAsDouble() {
+        ensureDeserialized();
+        return floatValue;
+    }
+
+}
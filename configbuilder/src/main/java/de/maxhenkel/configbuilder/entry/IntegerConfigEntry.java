@@ -5,8 +5,11 @@ import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.function.IntSupplier;
 
-public class IntegerConfigEntry extends AbstractRangedConfigEntry<Integer> {
+public class IntegerConfigEntry extends AbstractRangedConfigEntry<Integer> implements IntSupplier {
+
+    protected volatile int intValue;
 
     public IntegerConfigEntry(CommentedPropertyConfig config, ValueSerializer<Integer> serializer, String[] comments, String key, Integer def, @Nullable Integer min, @Nullable Integer max) {
         super(config, serializer, comments, key, def, min, max);
@@ -27,7 +30,30 @@ public class IntegerConfigEntry extends AbstractRangedConfigEntry<Integer> {
 
     @Override
     Integer fixValue(Integer value) {
-        return Math.max(Math.min(value, max), min);
+        int v = value;
+        if (v < min) {
+            return min;
+        }
+        if (v > max) {
+            return max;
+        }
+        return value;
+    }
+
+    @Override
+    void updatePrimitiveValue(Integer value) {
+        this.intValue = value;
+    }
+
+    /**
+     * Gets the current value without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    @Override
+    public int getAsInt() {
+        ensureDeserialized();
+        return intValue;
     }
 
 }
@@ -5,8 +5,11 @@ import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.function.LongSupplier;
 
-public class LongConfigEntry extends AbstractRangedConfigEntry<Long> {
+public class LongConfigEntry extends AbstractRangedConfigEntry<Long> implements LongSupplier {
+
+    protected volatile long longValue;
 
     public LongConfigEntry(CommentedPropertyConfig config, ValueSerializer<Long> serializer, String[] comments, String key, Long def, @Nullable Long min, @Nullable Long max) {
         super(config, serializer, comments, key, def, min, max);
@@ -27,7 +30,30 @@ public class LongConfigEntry extends AbstractRangedConfigEntry<Long> {
 
     @Override
     Long fixValue(Long value) {
-        return Math.max(Math.min(value, max), min);
+        long v = value;
+        if (v < min) {
+            return min;
+        }
+        if (v > max) {
+            return max;
+        }
+        return value;
+    }
+
+    @Override
+    void updatePrimitiveValue(Long value) {
+        this.longValue = value;
+    }
+
+    /**
+     * Gets the current value without boxing it.
+     *
+     * @return the current value of the config entry
+     */
+    @Override
+    public long getAsLong() {
+        ensureDeserialized();
+        return longValue;
     }
 
 }
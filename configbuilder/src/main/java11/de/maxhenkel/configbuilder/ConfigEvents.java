@@ -0,0 +1,149 @@
+package de.maxhenkel.configbuilder;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+
+/**
+ * Emits Java Flight Recorder events for config I/O.
+ * <br/>
+ * Every event is started with a <code>begin</code> method and committed with the corresponding <code>commit</code> method.
+ * This is the version for Java 11 or newer.
+ */
+class ConfigEvents {
+
+    private static final String CATEGORY = "Config Builder";
+
+    private ConfigEvents() {
+
+    }
+
+    @Nullable
+    static Object beginLoad() {
+        return begin(new LoadEvent());
+    }
+
+    static void commitLoad(@Nullable Object event, Path path, long bytes, int entries) {
+        LoadEvent loadEvent = (LoadEvent) event;
+        if (loadEvent == null || !end(loadEvent)) {
+            return;
+        }
+        loadEvent.path = path.toString();
+        loadEvent.bytes = bytes;
+        loadEvent.entries = entries;
+        loadEvent.commit();
+    }
+
+    @Nullable
+    static Object beginReload() {
+        return begin(new ReloadEvent());
+    }
+
+    static void commitReload(@Nullable Object event, @Nullable Path path, int entries) {
+        ReloadEvent reloadEvent = (ReloadEvent) event;
+        if (reloadEvent == null || !end(reloadEvent)) {
+            return;
+        }
+        reloadEvent.path = path == null ? null : path.toString();
+        reloadEvent.entries = entries;
+        reloadEvent.commit();
+    }
+
+    @Nullable
+    static Object beginSave() {
+        return begin(new SaveEvent());
+    }
+
+    static void commitSave(@Nullable Object event, Path path, long bytes, int entries) {
+        SaveEvent saveEvent = (SaveEvent) event;
+        if (saveEvent == null || !end(saveEvent)) {
+            return;
+        }
+        saveEvent.path = path.toString();
+        saveEvent.bytes = bytes;
+        saveEvent.entries = entries;
+        saveEvent.commit();
+    }
+
+    @Nullable
+    static Object beginQueuedSave() {
+        return begin(new QueuedSaveEvent());
+    }
+
+    static void commitQueuedSave(@Nullable Object event, Path path, long queueWaitNanos) {
+        QueuedSaveEvent queuedSaveEvent = (QueuedSaveEvent) event;
+        if (queuedSaveEvent == null || !end(queuedSaveEvent)) {
+            return;
+        }
+        queuedSaveEvent.path = path.toString();
+        queuedSaveEvent.queueWait = queueWaitNanos;
+        queuedSaveEvent.commit();
+    }
+
+    @Nullable
+    private static Event begin(Event event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static boolean end(Event event) {
+        event.end();
+        return event.shouldCommit();
+    }
+
+    @Name("de.maxhenkel.configbuilder.Load")
+    @Label("Config Load")
+    @Description("Reading and parsing a config file")
+    @Category(CATEGORY)
+    private static class LoadEvent extends Event {
+        @Label("Path")
+        private String path;
+        @Label("Bytes")
+        @DataAmount
+        private long bytes;
+        @Label("Entries")
+        private int entries;
+    }
+
+    @Name("de.maxhenkel.configbuilder.Reload")
+    @Label("Config Reload")
+    @Description("Reloading a config from its file")
+    @Category(CATEGORY)
+    private static class ReloadEvent extends Event {
+        @Label("Path")
+        private String path;
+        @Label("Entries")
+        private int entries;
+    }
+
+    @Name("de.maxhenkel.configbuilder.Save")
+    @Label("Config Save")
+    @Description("Rendering and writing a config file")
+    @Category(CATEGORY)
+    private static class SaveEvent extends Event {
+        @Label("Path")
+        private String path;
+        @Label("Bytes")
+        @DataAmount
+        private long bytes;
+        @Label("Entries")
+        private int entries;
+    }
+
+    @Name("de.maxhenkel.configbuilder.QueuedSave")
+    @Label("Config Queued Save")
+    @Description("Executing an asynchronous config save")
+    @Category(CATEGORY)
+    private static class QueuedSaveEvent extends Event {
+        @Label("Path")
+        private String path;
+        @Label("Queue Wait")
+        @Timespan
+        private long queueWait;
+    }
+
+}
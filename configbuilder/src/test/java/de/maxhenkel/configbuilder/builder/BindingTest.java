@@ -0,0 +1,129 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.ConfigBinding;
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.annotation.ConfigClass;
+import de.maxhenkel.configbuilder.annotation.ConfigValue;
+import de.maxhenkel.configbuilder.annotation.Range;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.IntegerConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BindingTest {
+
+    @Test
+    @DisplayName("Bind class")
+    void bind(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, Arrays.asList("server_port=0", "motd=Test", "mode=CREATIVE"), StandardCharsets.UTF_8);
+        ConfigBinding<ServerConfig> binding = ConfigBinding.builder(ServerConfig.class).path(path).saveSyncAfterBuild(true).build();
+
+        assertEquals(ServerConfig.class, binding.getType());
+        assertEquals(Arrays.asList("server_port", "motd", "online", "timeout", "ratio", "mode", "id"), binding.getEntries().stream().map(ConfigEntry::getKey).collect(Collectors.toList()));
+        assertInstanceOf(IntegerConfigEntry.class, binding.getEntry("port"));
+        ConfigEntry<Integer> port = binding.getEntry("port");
+        assertEquals(1, port.get());
+        assertEquals("server_port", port.getKey());
+        assertArrayEquals(new String[]{"The port"}, port.getComments());
+        assertEquals("Test", binding.<String>getEntry("motd").get());
+        assertEquals(Mode.CREATIVE, binding.getEntry("mode").get());
+        assertEquals(new UUID(0L, 1L), binding.getEntry("id").get());
+        assertThrowsExactly(IllegalArgumentException.class, () -> binding.getEntry("ignored"));
+
+        ServerConfig value = binding.get();
+        assertEquals(1, value.port);
+        assertEquals("Test", value.motd);
+        assertTrue(value.online);
+        assertEquals(1000L, value.timeout);
+        assertEquals(0.5D, value.ratio);
+        assertEquals(Mode.CREATIVE, value.mode);
+
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertEquals("# Server config", lines.get(0));
+        assertTrue(lines.contains("server_port=1"));
+    }
+
+    @Test
+    @DisplayName("Update")
+    void update() {
+        ConfigBinding<ServerConfig> binding = ConfigBuilder.builder(builder -> ConfigBinding.bind(builder, ServerConfig.class)).build();
+        ServerConfig value = new ServerConfig();
+        value.port = 100000;
+        value.motd = "Updated";
+        value.mode = Mode.CREATIVE;
+        binding.update(value);
+
+        assertEquals(65535, binding.getEntry("port").get());
+        assertEquals("Updated", binding.getEntry("motd").get());
+        assertEquals(Mode.CREATIVE, binding.getEntry("mode").get());
+        assertNotSame(value, binding.get());
+        assertEquals(65535, binding.get().port);
+    }
+
+    @Test
+    @DisplayName("Invalid classes")
+    void invalid() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> ConfigBinding.builder(FinalField.class).build());
+        assertThrowsExactly(IllegalArgumentException.class, () -> ConfigBinding.builder(NoConstructor.class).build());
+        assertThrowsExactly(IllegalArgumentException.class, () -> ConfigBinding.builder(InvalidRange.class).build());
+        assertThrowsExactly(IllegalArgumentException.class, () -> ConfigBinding.builder(NullDefault.class).build());
+        assertThrowsExactly(IllegalArgumentException.class, () -> ConfigBinding.builder(Runnable.class).build());
+    }
+
+    @ConfigClass(header = "Server config")
+    private static class ServerConfig {
+        @ConfigValue(key = "server_port", comments = "The port")
+        @Range(min = 1, max = 65535)
+        private int port = 25565;
+        private String motd = "Hello";
+        private boolean online = true;
+        @Range(min = 0)
+        private Long timeout = 1000L;
+        @Range(min = 0, max = 1)
+        private double ratio = 0.5D;
+        private Mode mode = Mode.SURVIVAL;
+        private UUID id = new UUID(0L, 1L);
+        private static int ignored = 1;
+        private transient int ignoredTransient = 1;
+    }
+
+    private enum Mode {
+        SURVIVAL, CREATIVE
+    }
+
+    private static class FinalField {
+        private final int value = 1;
+    }
+
+    private static class NoConstructor {
+        private int value;
+
+        private NoConstructor(int value) {
+            this.value = value;
+        }
+    }
+
+    private static class InvalidRange {
+        @Range(min = 0.5D)
+        private int value = 1;
+    }
+
+    private static class NullDefault {
+        private String value;
+    }
+
+}
@@ -0,0 +1,111 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.ConfigSet;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BuildAllTest {
+
+    @Test
+    @DisplayName("Build all configs of a directory")
+    void buildAll(@TempDir Path tempDir) throws IOException {
+        for (int i = 0; i < 50; i++) {
+            Files.write(tempDir.resolve(String.format("tenant_%02d.properties", i)), String.format("name=Tenant %d\n", i).getBytes(StandardCharsets.UTF_8));
+        }
+        Files.write(tempDir.resolve("ignored.txt"), "name=Ignored\n".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectory(tempDir.resolve("directory.properties"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ConfigSet<Config> configs;
+        try {
+            configs = ConfigBuilder.buildAll(tempDir, file -> ConfigBuilder.builder(Config::new).saveAfterBuild(false), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(50, configs.getConfigs().size());
+        assertTrue(configs.getErrors().isEmpty());
+        List<Path> files = new ArrayList<>(configs.getConfigs().keySet());
+        for (int i = 0; i < 50; i++) {
+            Path file = tempDir.resolve(String.format("tenant_%02d.properties", i));
+            assertEquals(file, files.get(i));
+            assertEquals(String.format("Tenant %d", i), configs.get(file).name.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Error isolation")
+    void errorIsolation(@TempDir Path tempDir) throws IOException {
+        Path valid = tempDir.resolve("valid.properties");
+        Path invalid = tempDir.resolve("invalid.properties");
+        Files.write(valid, "name=Valid\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(invalid, "name=Invalid\n".getBytes(StandardCharsets.UTF_8));
+
+        ConfigSet<Config> configs = ConfigBuilder.buildAll(tempDir, file -> ConfigBuilder.builder(builder -> {
+            if (file.equals(invalid)) {
+                throw new IllegalStateException("Invalid config");
+            }
+            return new Config(builder);
+        }).saveAfterBuild(false));
+
+        assertEquals(1, configs.getConfigs().size());
+        assertEquals("Valid", configs.get(valid).name.get());
+        assertNull(configs.get(invalid));
+        assertInstanceOf(IllegalStateException.class, configs.getErrors().get(invalid));
+    }
+
+    @Test
+    @DisplayName("Rejected configs")
+    void rejected(@TempDir Path tempDir) throws IOException {
+        for (int i = 0; i < 3; i++) {
+            Files.write(tempDir.resolve(String.format("tenant_%d.properties", i)), String.format("name=Tenant %d\n", i).getBytes(StandardCharsets.UTF_8));
+        }
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = command -> {
+            if (submitted.getAndIncrement() == 1) {
+                throw new RejectedExecutionException("Executor is full");
+            }
+            command.run();
+        };
+
+        ConfigSet<Config> configs = ConfigBuilder.buildAll(tempDir, file -> ConfigBuilder.builder(Config::new).saveAfterBuild(false), executor);
+        assertEquals(2, configs.getConfigs().size());
+        assertEquals("Tenant 0", configs.get(tempDir.resolve("tenant_0.properties")).name.get());
+        assertEquals("Tenant 2", configs.get(tempDir.resolve("tenant_2.properties")).name.get());
+        assertInstanceOf(RejectedExecutionException.class, configs.getErrors().get(tempDir.resolve("tenant_1.properties")));
+    }
+
+    @Test
+    @DisplayName("Empty directory")
+    void emptyDirectory(@TempDir Path tempDir) throws IOException {
+        ConfigSet<Config> configs = ConfigBuilder.buildAll(tempDir, file -> ConfigBuilder.builder(Config::new));
+        assertTrue(configs.getConfigs().isEmpty());
+        assertTrue(configs.getErrors().isEmpty());
+    }
+
+    private static class Config {
+        public final ConfigEntry<String> name;
+
+        public Config(ConfigBuilder builder) {
+            name = builder.stringEntry("name", "");
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.ConfigMetrics;
+import de.maxhenkel.configbuilder.ConfigWatcher;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.AbstractConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HotReloadTest {
+
+    @Test
+    @DisplayName("Reload on external modification")
+    void reloadOnModification(@TempDir Path tempDir) throws IOException {
+        ConfigWatcher watcher = new ConfigWatcher(Duration.ofMillis(50));
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).saveAfterBuild(false).saveSyncAfterBuild(true).hotReload(watcher).build();
+        assertEquals(1, watcher.getWatchedConfigs());
+        assertEquals("test", config.stringEntry.get());
+
+        Files.write(configPath, "string=changed\ninteger=5\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(waitFor(() -> "changed".equals(config.stringEntry.get())));
+        assertEquals(5, config.integerEntry.get());
+
+        Files.write(configPath, "string=changed again\ninteger=6\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(waitFor(() -> "changed again".equals(config.stringEntry.get())));
+        assertEquals(6, config.integerEntry.get());
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Don't reload after own save")
+    void noReloadAfterSave(@TempDir Path tempDir) {
+        ConfigWatcher watcher = new ConfigWatcher(Duration.ofMillis(50));
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).saveAfterBuild(false).saveSyncAfterBuild(true).hotReload(watcher).build();
+
+        config.stringEntry.set("saved").saveSync();
+        config.stringEntry.set("not saved");
+        TestUtils.sleep();
+        assertEquals("not saved", config.stringEntry.get());
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Unregister config")
+    void unregister(@TempDir Path tempDir) throws IOException {
+        ConfigWatcher watcher = new ConfigWatcher(Duration.ofMillis(50));
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).saveAfterBuild(false).saveSyncAfterBuild(true).hotReload(watcher).build();
+        Config otherConfig = ConfigBuilder.builder(Config::new).path(TestUtils.randomConfigName(tempDir)).saveAfterBuild(false).saveSyncAfterBuild(true).hotReload(watcher).build();
+        assertEquals(2, watcher.getWatchedConfigs());
+
+        watcher.unregister(((AbstractConfigEntry<String>) config.stringEntry).getConfig());
+        assertEquals(1, watcher.getWatchedConfigs());
+        Files.write(configPath, "string=changed\n".getBytes(StandardCharsets.UTF_8));
+        TestUtils.sleep();
+        assertEquals("test", config.stringEntry.get());
+
+        watcher.unregister(((AbstractConfigEntry<String>) otherConfig.stringEntry).getConfig());
+        assertEquals(0, watcher.getWatchedConfigs());
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Unused configs are not watched")
+    void unusedConfig(@TempDir Path tempDir) throws InterruptedException {
+        ConfigWatcher watcher = new ConfigWatcher(Duration.ofMillis(50));
+        ConfigBuilder.builder(Config::new).path(TestUtils.randomConfigName(tempDir)).saveAfterBuild(false).saveSyncAfterBuild(true).hotReload(watcher).build();
+        for (int i = 0; i < 50 && watcher.getWatchedConfigs() > 0; i++) {
+            System.gc();
+            Thread.sleep(20L);
+        }
+        assertEquals(0, watcher.getWatchedConfigs());
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Modifications are not blocked while reading the file")
+    void modifyWhileReading(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "string=test\n".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<ConfigEntry<Integer>> entry = new AtomicReference<>();
+        AtomicBoolean modified = new AtomicBoolean();
+        ConfigMetrics metrics = new ConfigMetrics() {
+            @Override
+            public void onLoad(Path path, long durationNanos, long bytesRead, int entriesParsed) {
+                if (entry.get() == null) {
+                    return;
+                }
+                // Modifying the config on another thread while reading the file must not wait for the reload
+                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> entry.get().set(42));
+                try {
+                    future.get(5L, TimeUnit.SECONDS);
+                    modified.set(true);
+                } catch (Exception e) {
+                    future.cancel(true);
+                }
+            }
+        };
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(configPath).metrics(metrics).build());
+        entry.set(builder.integerEntry("integer", 10, 0, 100));
+        TestUtils.finalizeBuilder(builder);
+
+        Files.write(configPath, "string=changed\ninteger=5\n".getBytes(StandardCharsets.UTF_8));
+        TestUtils.reloadBuilder(builder);
+        assertTrue(modified.get());
+        assertEquals(5, entry.get().get());
+    }
+
+    @Test
+    @DisplayName("Close default watcher")
+    void closeDefault() {
+        assertThrows(IllegalStateException.class, () -> ConfigWatcher.getDefault().close());
+    }
+
+    private static boolean waitFor(Supplier<Boolean> condition) {
+        long end = System.currentTimeMillis() + 10000L;
+        while (System.currentTimeMillis() < end) {
+            if (condition.get()) {
+                return true;
+            }
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return false;
+    }
+
+    private static class Config {
+        public final ConfigEntry<String> stringEntry;
+        public final ConfigEntry<Integer> integerEntry;
+
+        public Config(ConfigBuilder builder) {
+            stringEntry = builder.stringEntry("string", "test");
+            integerEntry = builder.integerEntry("integer", 10, 0, 100);
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.ConfigMetrics;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.IntegerConfigEntry;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyDeserializationTest {
+
+    @Test
+    @DisplayName("Deserialize on first access")
+    void deserializeOnAccess(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "custom=test\ninteger=100\n".getBytes(StandardCharsets.UTF_8));
+        CountingSerializer serializer = new CountingSerializer();
+        Config config = ConfigBuilder.builder(builder -> new Config(builder))
+                .path(configPath)
+                .addValueSerializer(Custom.class, serializer)
+                .lazyDeserialization(true)
+                .saveAfterBuild(false)
+                .build();
+
+        assertEquals(0, serializer.deserializations.get());
+        assertEquals("100", config.integerEntry.getConfig().getEntries().get("integer"));
+
+        assertEquals("test", config.customEntry.get().value);
+        assertEquals("test", config.customEntry.get().value);
+        assertEquals(1, serializer.deserializations.get());
+
+        assertEquals(10, config.integerEntry.getAsInt());
+        assertEquals("10", config.integerEntry.getConfig().getEntries().get("integer"));
+    }
+
+    @Test
+    @DisplayName("Missing entries")
+    void missingEntries(@TempDir Path tempDir) {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        CountingSerializer serializer = new CountingSerializer();
+        Config config = ConfigBuilder.builder(builder -> new Config(builder))
+                .path(configPath)
+                .addValueSerializer(Custom.class, serializer)
+                .lazyDeserialization(true)
+                .saveAfterBuild(false)
+                .build();
+
+        assertEquals("default", config.integerEntry.getConfig().getEntries().get("custom"));
+        assertEquals("5", config.integerEntry.getConfig().getEntries().get("integer"));
+        assertEquals("default", config.customEntry.get().value);
+        assertEquals(0, serializer.deserializations.get());
+    }
+
+    @Test
+    @DisplayName("Set before access")
+    void setBeforeAccess(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "integer=7\n".getBytes(StandardCharsets.UTF_8));
+        Config config = ConfigBuilder.builder(builder -> new Config(builder))
+                .path(configPath)
+                .addValueSerializer(Custom.class, new CountingSerializer())
+                .lazyDeserialization(true)
+                .saveAfterBuild(false)
+                .build();
+
+        config.integerEntry.set(7);
+        assertEquals(7, config.integerEntry.get());
+        config.integerEntry.set(3);
+        assertEquals(3, config.integerEntry.get());
+        assertEquals("3", config.integerEntry.getConfig().getEntries().get("integer"));
+    }
+
+    @Test
+    @DisplayName("Set while deserializing")
+    void setWhileDeserializing(@TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "integer=7\n".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<Runnable> onDeserialize = new AtomicReference<>();
+        ConfigBuilderImpl builder = createLazyBuilder(configPath, onDeserialize);
+        IntegerConfigEntry entry = builder.integerEntry("integer", 5, 0, 10);
+
+        CompletableFuture<Void> set = new CompletableFuture<>();
+        onDeserialize.set(() -> set.complete(null));
+        CompletableFuture<Void> future = set.thenRunAsync(() -> entry.set(9));
+        runWhileDeserializing(onDeserialize, future);
+        entry.get();
+        future.get(5L, TimeUnit.SECONDS);
+
+        assertEquals(9, entry.get());
+        assertEquals(9, entry.getAsInt());
+        assertEquals("9", TestUtils.getProperties(builder).get("integer"));
+    }
+
+    @Test
+    @DisplayName("Reload while deserializing")
+    void reloadWhileDeserializing(@TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "integer=7\n".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<Runnable> onDeserialize = new AtomicReference<>();
+        ConfigBuilderImpl builder = createLazyBuilder(configPath, onDeserialize);
+        IntegerConfigEntry entry = builder.integerEntry("integer", 5, 0, 10);
+
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+        onDeserialize.set(() -> reload.complete(null));
+        CompletableFuture<Void> future = reload.thenRunAsync(() -> {
+            try {
+                Files.write(configPath, "integer=3\n".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            TestUtils.reloadBuilder(builder);
+        });
+        runWhileDeserializing(onDeserialize, future);
+        entry.get();
+        future.get(5L, TimeUnit.SECONDS);
+
+        assertEquals(3, entry.get());
+        assertEquals(3, entry.getAsInt());
+        assertEquals("3", TestUtils.getProperties(builder).get("integer"));
+    }
+
+    private static ConfigBuilderImpl createLazyBuilder(Path configPath, AtomicReference<Runnable> onDeserialize) {
+        ConfigMetrics metrics = new ConfigMetrics() {
+            @Override
+            public void onDeserialize(String key, ValueSerializer<?> serializer, long durationNanos) {
+                Runnable runnable = onDeserialize.getAndSet(null);
+                if (runnable != null) {
+                    runnable.run();
+                }
+            }
+        };
+        return new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(configPath).lazyDeserialization(true).metrics(metrics).build());
+    }
+
+    /**
+     * Makes the first deserialization wait until the concurrent modification completed or blocked for a while.
+     */
+    private static void runWhileDeserializing(AtomicReference<Runnable> onDeserialize, CompletableFuture<Void> modification) {
+        Runnable start = onDeserialize.get();
+        onDeserialize.set(() -> {
+            start.run();
+            try {
+                modification.get(500L, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // The modification is expected to wait for the deserialization
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static class Config {
+        public final ConfigEntry<Custom> customEntry;
+        public final IntegerConfigEntry integerEntry;
+
+        public Config(ConfigBuilder builder) {
+            customEntry = builder.entry("custom", new Custom("default"));
+            integerEntry = builder.integerEntry("integer", 5, 0, 10);
+        }
+    }
+
+    private static class Custom {
+        private final String value;
+
+        private Custom(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class CountingSerializer implements ValueSerializer<Custom> {
+        private final AtomicInteger deserializations = new AtomicInteger();
+
+        @Nullable
+        @Override
+        public Custom deserialize(String str) {
+            deserializations.incrementAndGet();
+            return new Custom(str);
+        }
+
+        @Nullable
+        @Override
+        public String serialize(Custom val) {
+            return val.value;
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.*;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.ConfigEntryListener;
+import de.maxhenkel.configbuilder.entry.IntegerConfigEntry;
+import de.maxhenkel.configbuilder.entry.StringConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListenerTest {
+
+    @Test
+    @DisplayName("Entry listener")
+    void entryListener() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        IntegerConfigEntry entry = builder.integerEntry("integer", 10, 0, 100);
+        List<ConfigChange<Integer>> changes = new ArrayList<>();
+        entry.addListener(changes::add);
+
+        entry.set(20);
+        entry.set(20);
+        entry.set(200);
+        entry.reset();
+
+        assertEquals(3, changes.size());
+        assertChange(changes.get(0), entry, 10, 20);
+        assertChange(changes.get(1), entry, 20, 100);
+        assertChange(changes.get(2), entry, 100, 10);
+    }
+
+    @Test
+    @DisplayName("Remove listener")
+    void removeListener() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        StringConfigEntry entry = builder.stringEntry("string", "test");
+        List<ConfigChange<String>> changes = new ArrayList<>();
+        ConfigEntryListener<String> listener = changes::add;
+        entry.addListener(listener);
+        entry.set("test1");
+        entry.removeListener(listener);
+        entry.set("test2");
+
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), entry, "test", "test1");
+    }
+
+    @Test
+    @DisplayName("Batched reload")
+    void batchedReload(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = TestUtils.createBuilder(configPath);
+        IntegerConfigEntry integerEntry = builder.integerEntry("integer", 10);
+        StringConfigEntry stringEntry = builder.stringEntry("string", "test");
+        ConfigEntry<Boolean> booleanEntry = builder.booleanEntry("boolean", false);
+        TestUtils.finalizeBuilder(builder);
+
+        List<List<ConfigChange<?>>> batches = new ArrayList<>();
+        config(integerEntry).addListener(batches::add);
+        List<ConfigChange<String>> stringChanges = new ArrayList<>();
+        stringEntry.addListener(stringChanges::add);
+
+        Files.write(configPath, "integer=20\nstring=test2\nboolean=false\n".getBytes(StandardCharsets.UTF_8));
+        TestUtils.reloadBuilder(builder);
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertChange(batches.get(0).get(0), integerEntry, 10, 20);
+        assertChange(batches.get(0).get(1), stringEntry, "test", "test2");
+        assertEquals(1, stringChanges.size());
+        assertSame(batches.get(0).get(1), stringChanges.get(0));
+        assertFalse(booleanEntry.get());
+
+        TestUtils.reloadBuilder(builder);
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    @DisplayName("Merge changes of a batch")
+    void mergeBatch() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        IntegerConfigEntry integerEntry = builder.integerEntry("integer", 10);
+        StringConfigEntry stringEntry = builder.stringEntry("string", "test");
+        List<List<ConfigChange<?>>> batches = new ArrayList<>();
+        config(integerEntry).addListener(batches::add);
+
+        config(integerEntry).batch(() -> {
+            integerEntry.set(11);
+            stringEntry.set("test1");
+            integerEntry.set(12);
+            stringEntry.set("test");
+            assertTrue(batches.isEmpty());
+        });
+
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertChange(batches.get(0).get(0), integerEntry, 10, 12);
+    }
+
+    @Test
+    @DisplayName("Listener executor")
+    void listenerExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        Config config = ConfigBuilder.builder(Config::new).listenerExecutor(tasks::add).build();
+        List<ConfigChange<?>> changes = new ArrayList<>();
+        config(config.integerEntry).addListener(changes::addAll);
+
+        config.integerEntry.set(20);
+        assertEquals(1, tasks.size());
+        assertTrue(changes.isEmpty());
+
+        tasks.get(0).run();
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), config.integerEntry, 10, 20);
+    }
+
+    @Test
+    @DisplayName("Builder listener")
+    void builderListener(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "integer=20\n".getBytes(StandardCharsets.UTF_8));
+        List<ConfigChange<?>> changes = new ArrayList<>();
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).listener(changes::addAll).saveAfterBuild(false).build();
+
+        assertTrue(changes.isEmpty());
+        config.integerEntry.set(30);
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), config.integerEntry, 20, 30);
+    }
+
+    @Test
+    @DisplayName("Lazy deserialization")
+    void lazyDeserialization(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "integer=20\n".getBytes(StandardCharsets.UTF_8));
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).lazyDeserialization(true).saveAfterBuild(false).build();
+        List<ConfigChange<Integer>> changes = new ArrayList<>();
+        config.integerEntry.addListener(changes::add);
+
+        config.integerEntry.set(30);
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), config.integerEntry, 20, 30);
+    }
+
+    @Test
+    @DisplayName("Listener exception")
+    void listenerException() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        IntegerConfigEntry entry = builder.integerEntry("integer", 10);
+        List<ConfigChange<Integer>> changes = new ArrayList<>();
+        entry.addListener(change -> {
+            throw new RuntimeException("Test");
+        });
+        entry.addListener(changes::add);
+
+        entry.set(20);
+        assertEquals(20, entry.get());
+        assertEquals(1, changes.size());
+    }
+
+    private static CommentedPropertyConfig config(ConfigEntry<?> entry) {
+        return (CommentedPropertyConfig) entry.getConfig();
+    }
+
+    private static <T> void assertChange(ConfigChange<?> change, ConfigEntry<T> entry, T oldValue, T newValue) {
+        assertSame(entry, change.getEntry());
+        assertEquals(oldValue, change.getOldValue());
+        assertEquals(newValue, change.getNewValue());
+    }
+
+    private static class Config {
+        public final IntegerConfigEntry integerEntry;
+
+        public Config(ConfigBuilder builder) {
+            integerEntry = builder.integerEntry("integer", 10);
+        }
+    }
+
+}
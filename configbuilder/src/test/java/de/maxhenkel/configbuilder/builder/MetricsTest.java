@@ -0,0 +1,124 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.ConfigMetrics;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.IntegerConfigEntry;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    @DisplayName("Load and save")
+    void loadAndSave(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        byte[] content = "integer=abc\nstring=test\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(configPath, content);
+        RecordingMetrics metrics = new RecordingMetrics();
+        List<Runnable> tasks = new ArrayList<>();
+
+        Config config = ConfigBuilder.builder(Config::new).path(configPath).metrics(metrics).saveExecutor(tasks::add).saveAfterBuild(false).build();
+
+        assertEquals(1, metrics.loads.size());
+        assertEquals(configPath.toAbsolutePath(), metrics.loads.get(0));
+        assertEquals(content.length, metrics.bytesRead);
+        assertEquals(2, metrics.entriesParsed);
+        assertEquals(1, metrics.parseFallbacks.size());
+        assertEquals("integer=abc", metrics.parseFallbacks.get(0));
+        assertEquals(2, metrics.deserializations.size());
+        assertTrue(metrics.serializations.contains("integer"));
+        assertTrue(metrics.serializations.contains("string"));
+
+        config.integerEntry.set(20).saveSync();
+        assertEquals(1, metrics.saves);
+        assertEquals(Files.size(configPath), metrics.bytesWritten);
+
+        config.integerEntry.saveSync();
+        assertEquals(2, metrics.saves);
+        assertEquals(0L, metrics.bytesWritten);
+
+        config.integerEntry.set(30).save();
+        assertEquals(0, metrics.queuedSaves);
+        tasks.forEach(Runnable::run);
+        assertEquals(1, metrics.queuedSaves);
+        assertEquals(3, metrics.saves);
+    }
+
+    @Test
+    @DisplayName("No metrics")
+    void noMetrics(@TempDir Path tempDir) {
+        Config config = ConfigBuilder.builder(Config::new).path(TestUtils.randomConfigName(tempDir)).build();
+        assertNull(config.integerEntry.getConfig().getMetrics());
+    }
+
+    private static class RecordingMetrics implements ConfigMetrics {
+        private final List<Path> loads = new ArrayList<>();
+        private long bytesRead;
+        private int entriesParsed;
+        private final List<String> parseFallbacks = new ArrayList<>();
+        private int saves;
+        private long bytesWritten;
+        private int queuedSaves;
+        private final List<String> deserializations = new ArrayList<>();
+        private final List<String> serializations = new ArrayList<>();
+
+        @Override
+        public void onLoad(Path path, long durationNanos, long bytesRead, int entriesParsed) {
+            assertTrue(durationNanos >= 0L);
+            loads.add(path);
+            this.bytesRead = bytesRead;
+            this.entriesParsed = entriesParsed;
+        }
+
+        @Override
+        public void onParseFallback(String key, String value) {
+            parseFallbacks.add(key + "=" + value);
+        }
+
+        @Override
+        public void onSave(Path path, long durationNanos, long bytesWritten) {
+            saves++;
+            this.bytesWritten = bytesWritten;
+        }
+
+        @Override
+        public void onQueuedSave(Path path, long queueWaitNanos) {
+            assertTrue(queueWaitNanos >= 0L);
+            queuedSaves++;
+        }
+
+        @Override
+        public void onDeserialize(String key, ValueSerializer<?> serializer, long durationNanos) {
+            deserializations.add(key);
+        }
+
+        @Override
+        public void onSerialize(String key, ValueSerializer<?> serializer, long durationNanos) {
+            serializations.add(key);
+        }
+    }
+
+    private static class Config {
+        public final IntegerConfigEntry integerEntry;
+        public final ConfigEntry<String> stringEntry;
+
+        public Config(ConfigBuilder builder) {
+            integerEntry = builder.integerEntry("integer", 10);
+            stringEntry = builder.stringEntry("string", "");
+        }
+    }
+
+}
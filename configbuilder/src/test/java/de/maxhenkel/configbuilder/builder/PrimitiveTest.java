@@ -0,0 +1,88 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveTest {
+
+    @Test
+    @DisplayName("Integer")
+    void integerEntry() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        IntegerConfigEntry entry = builder.integerEntry("integer", 5, -10, 10);
+        IntSupplier supplier = entry;
+        assertEquals(5, supplier.getAsInt());
+        entry.set(20);
+        assertEquals(10, entry.getAsInt());
+        entry.set(-3);
+        assertEquals(-3, entry.getAsInt());
+        entry.reset();
+        assertEquals(5, entry.getAsInt());
+    }
+
+    @Test
+    @DisplayName("Long")
+    void longEntry() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        LongConfigEntry entry = builder.longEntry("long", 5L, -10L, 10L);
+        LongSupplier supplier = entry;
+        assertEquals(5L, supplier.getAsLong());
+        entry.set(-20L);
+        assertEquals(-10L, entry.getAsLong());
+    }
+
+    @Test
+    @DisplayName("Double")
+    void doubleEntry() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        DoubleConfigEntry entry = builder.doubleEntry("double", 5D, -10D, 10D);
+        DoubleSupplier supplier = entry;
+        assertEquals(5D, supplier.getAsDouble());
+        entry.set(20D);
+        assertEquals(10D, entry.getAsDouble());
+    }
+
+    @Test
+    @DisplayName("Float")
+    void floatEntry() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        FloatConfigEntry entry = builder.floatEntry("float", 5F, -10F, 10F);
+        assertEquals(5F, entry.getAsFloat());
+        entry.set(20F);
+        assertEquals(10F, entry.getAsFloat());
+        assertEquals(10D, entry.getAsDouble());
+    }
+
+    @Test
+    @DisplayName("Boolean")
+    void booleanEntry() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        BooleanConfigEntry entry = builder.booleanEntry("boolean", true);
+        BooleanSupplier supplier = entry;
+        assertTrue(supplier.getAsBoolean());
+        entry.set(false);
+        assertFalse(entry.getAsBoolean());
+    }
+
+    @Test
+    @DisplayName("Reload")
+    void reload() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        IntegerConfigEntry entry = builder.integerEntry("integer", 5, -10, 10);
+        TestUtils.getProperties(builder).set("integer", "7");
+        entry.reload();
+        assertEquals(7, entry.getAsInt());
+        assertEquals(7, entry.get());
+    }
+
+}
@@ -0,0 +1,168 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.SaveDurability;
+import de.maxhenkel.configbuilder.SaveScheduler;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveSchedulerTest {
+
+    @Test
+    @DisplayName("Coalesce saves")
+    void coalesceSaves(@TempDir Path tempDir) {
+        SaveScheduler scheduler = new SaveScheduler();
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveScheduler(scheduler).saveDelay(Duration.ofSeconds(10)).build());
+        ConfigEntry<Integer> entry = builder.integerEntry("integer_test", 0, 0, 1000);
+
+        for (int i = 1; i <= 100; i++) {
+            entry.set(i).save();
+        }
+        assertEquals(1, scheduler.getQueueDepth());
+        assertEquals(99, scheduler.getCoalescedSaves());
+        assertEquals(0, scheduler.getCompletedSaves());
+        assertFalse(Files.exists(config));
+
+        scheduler.flush();
+        assertEquals(0, scheduler.getQueueDepth());
+        assertEquals(1, scheduler.getCompletedSaves());
+
+        builder = TestUtils.createBuilder(config);
+        ConfigEntry<Integer> entry2 = builder.integerEntry("integer_test", 0, 0, 1000);
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(100, entry2.get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Delayed save")
+    void delayedSave(@TempDir Path tempDir) {
+        SaveScheduler scheduler = new SaveScheduler();
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveScheduler(scheduler).saveDelay(Duration.ofMillis(100)).build());
+        ConfigEntry<String> entry = builder.stringEntry("string_test", "");
+
+        entry.set("Test 1").save();
+        entry.set("Test 2").save();
+        TestUtils.sleep();
+        assertEquals(0, scheduler.getQueueDepth());
+        assertEquals(1, scheduler.getCompletedSaves());
+        assertTrue(Files.exists(config));
+
+        builder = TestUtils.createBuilder(config);
+        ConfigEntry<String> entry2 = builder.stringEntry("string_test", "");
+        TestUtils.finalizeBuilder(builder);
+        assertEquals("Test 2", entry2.get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Save after shutdown")
+    void saveAfterShutdown(@TempDir Path tempDir) {
+        SaveScheduler scheduler = new SaveScheduler();
+        scheduler.shutdown();
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveScheduler(scheduler).build());
+        builder.stringEntry("string_test", "").set("Test").save();
+        assertEquals(1, scheduler.getCompletedSaves());
+        assertTrue(Files.exists(config));
+    }
+
+    @Test
+    @DisplayName("Custom executor")
+    void customExecutor(@TempDir Path tempDir) {
+        List<Runnable> tasks = new ArrayList<>();
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveExecutor(tasks::add).build());
+        ConfigEntry<String> entry = builder.stringEntry("string_test", "");
+        SaveScheduler scheduler = ((CommentedPropertyConfig) entry.getConfig()).getSaveScheduler();
+
+        entry.set("Test 1").save();
+        entry.set("Test 2").save();
+        assertEquals(1, tasks.size());
+        assertEquals(1, scheduler.getCoalescedSaves());
+        assertFalse(Files.exists(config));
+
+        tasks.get(0).run();
+        assertEquals(1, scheduler.getCompletedSaves());
+        builder = TestUtils.createBuilder(config);
+        ConfigEntry<String> entry2 = builder.stringEntry("string_test", "");
+        TestUtils.finalizeBuilder(builder);
+        assertEquals("Test 2", entry2.get());
+    }
+
+    @Test
+    @DisplayName("Save order on a thread pool")
+    void saveOrder(@TempDir Path tempDir) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        SaveScheduler scheduler = new SaveScheduler(executor);
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveScheduler(scheduler).durability(SaveDurability.NONE).build());
+        ConfigEntry<Integer> entry = builder.integerEntry("integer_test", 0, 0, 10000);
+
+        for (int i = 1; i <= 1000; i++) {
+            entry.set(i).save();
+        }
+        scheduler.shutdown();
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        builder = TestUtils.createBuilder(config);
+        ConfigEntry<Integer> entry2 = builder.integerEntry("integer_test", 0, 0, 10000);
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(1000, entry2.get());
+    }
+
+    @Test
+    @DisplayName("Shut down default scheduler")
+    void shutdownDefault() {
+        assertThrows(IllegalStateException.class, () -> SaveScheduler.getDefault().shutdown());
+    }
+
+    @Test
+    @DisplayName("Release file locks")
+    void releaseFileLocks(@TempDir Path tempDir) throws NoSuchFieldException, IllegalAccessException, InterruptedException {
+        Field fileLocksField = SaveScheduler.class.getDeclaredField("FILE_LOCKS");
+        fileLocksField.setAccessible(true);
+        Map<?, ?> fileLocks = (Map<?, ?>) fileLocksField.get(null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        SaveScheduler scheduler = new SaveScheduler(executor);
+        List<Path> configs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Path config = TestUtils.randomConfigName(tempDir);
+            configs.add(config);
+            ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(config).saveScheduler(scheduler).build());
+            builder.integerEntry("integer_test", 0, 0, 1000).set(i + 1).save();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        scheduler.shutdown();
+
+        assertEquals(100, scheduler.getCompletedSaves());
+        for (Path config : configs) {
+            assertTrue(Files.exists(config));
+            assertFalse(fileLocks.containsKey(config));
+        }
+    }
+
+}
@@ -1,17 +1,33 @@
 package de.maxhenkel.configbuilder.builder;
 
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
 import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.ConfigMetrics;
+import de.maxhenkel.configbuilder.SaveDurability;
 import de.maxhenkel.configbuilder.TestUtils;
 import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SaveTest {
 
@@ -188,4 +204,107 @@ public class SaveTest {
         assertEquals("123", entry.get());
     }
 
+    @Test
+    @DisplayName("Save with durability")
+    void saveWithDurability(@TempDir Path tempDir) throws IOException {
+        for (SaveDurability durability : SaveDurability.values()) {
+            Path configPath = TestUtils.randomConfigName(tempDir);
+            ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(configPath).durability(durability).build());
+            ConfigEntry<String> entry = builder.stringEntry("test", "test123");
+            TestUtils.finalizeBuilder(builder);
+
+            entry.set("abc").saveSync();
+            assertEquals("test=abc", new String(Files.readAllBytes(configPath), StandardCharsets.UTF_8).trim());
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(SaveDurability.values().length, files.count(), "Temporary files should not be left behind");
+        }
+    }
+
+    @Test
+    @DisplayName("Save through symbolic link")
+    void saveThroughSymbolicLink(@TempDir Path tempDir) throws IOException {
+        Path realPath = TestUtils.randomConfigName(tempDir);
+        Path linkPath = TestUtils.randomConfigName(tempDir);
+        Files.write(realPath, "test=123".getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.createSymbolicLink(linkPath, realPath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assumptions.abort("Symbolic links are not supported");
+        }
+        ConfigBuilderImpl builder = TestUtils.createBuilder(linkPath);
+        ConfigEntry<String> entry = builder.stringEntry("test", "test123");
+        TestUtils.finalizeBuilder(builder);
+
+        entry.set("abc").saveSync();
+        assertTrue(Files.isSymbolicLink(linkPath));
+        assertEquals("test=abc", new String(Files.readAllBytes(realPath), StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    @DisplayName("Keep file permissions")
+    void keepPermissions(@TempDir Path tempDir) throws IOException {
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        Files.write(configPath, "test=123".getBytes(StandardCharsets.UTF_8));
+        if (Files.getFileAttributeView(configPath, PosixFileAttributeView.class) == null) {
+            Assumptions.abort("POSIX file permissions are not supported");
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-------");
+        Files.setPosixFilePermissions(configPath, permissions);
+        ConfigBuilderImpl builder = TestUtils.createBuilder(configPath);
+        ConfigEntry<String> entry = builder.stringEntry("test", "test123");
+        TestUtils.finalizeBuilder(builder);
+
+        entry.set("abc").saveSync();
+        assertEquals("test=abc", new String(Files.readAllBytes(configPath), StandardCharsets.UTF_8).trim());
+        assertEquals(permissions, Files.getPosixFilePermissions(configPath));
+    }
+
+    @Test
+    @DisplayName("Save to a relative path without parent")
+    void relativePathWithoutParent() throws IOException {
+        Path configPath = Paths.get(String.format("config_%s.properties", UUID.randomUUID()));
+        AtomicInteger saves = new AtomicInteger();
+        ConfigMetrics metrics = new ConfigMetrics() {
+            @Override
+            public void onSave(Path path, long durationNanos, long bytesWritten) {
+                saves.incrementAndGet();
+            }
+        };
+        try {
+            ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(configPath).durability(SaveDurability.SYNC_FILE_AND_DIRECTORY).metrics(metrics).build());
+            ConfigEntry<String> entry = builder.stringEntry("test", "test123");
+            TestUtils.finalizeBuilder(builder);
+            entry.set("abc").saveSync();
+
+            assertEquals(2, saves.get());
+            assertEquals("test=abc", new String(Files.readAllBytes(configPath), StandardCharsets.UTF_8).trim());
+        } finally {
+            Files.deleteIfExists(configPath);
+        }
+    }
+
+    @Test
+    @DisplayName("Skip unchanged save")
+    void skipUnchangedSave(@TempDir Path tempDir) throws IOException {
+        Path config = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = TestUtils.createBuilder(config);
+        ConfigEntry<String> stringEntry = builder.stringEntry("string_test", "Test 123");
+        TestUtils.finalizeBuilder(builder);
+
+        FileTime oldTime = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(config, oldTime);
+        stringEntry.set("Test 123").saveSync();
+        assertEquals(oldTime, Files.getLastModifiedTime(config));
+
+        builder = TestUtils.createBuilder(config);
+        builder.stringEntry("string_test", "Test 123");
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(oldTime, Files.getLastModifiedTime(config));
+
+        stringEntry.set("Test 456").saveSync();
+        assertNotEquals(oldTime, Files.getLastModifiedTime(config));
+        assertTrue(new String(Files.readAllBytes(config), StandardCharsets.UTF_8).contains("string_test=Test 456"));
+    }
+
 }
@@ -0,0 +1,163 @@
+package de.maxhenkel.configbuilder.builder;
+
+import de.maxhenkel.configbuilder.*;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionTest {
+
+    @Test
+    @DisplayName("Update")
+    void update(@TempDir Path tempDir) {
+        SaveScheduler scheduler = new SaveScheduler();
+        Path configPath = TestUtils.randomConfigName(tempDir);
+        CountingSerializer serializer = new CountingSerializer();
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(configPath).saveScheduler(scheduler).saveDelay(Duration.ofSeconds(10)).build(), Collections.singletonMap(Custom.class, serializer));
+        ConfigEntry<Integer> integerEntry = builder.integerEntry("integer", 10, 0, 100);
+        ConfigEntry<String> stringEntry = builder.stringEntry("string", "test");
+        ConfigEntry<Custom> countingEntry = builder.entry("counting", new Custom("default"));
+        CommentedPropertyConfig config = (CommentedPropertyConfig) integerEntry.getConfig();
+        List<List<ConfigChange<?>>> batches = new ArrayList<>();
+        config.addListener(batches::add);
+        int serializations = serializer.serializations.get();
+
+        config.update(transaction -> {
+            transaction.set(integerEntry, 20).set(stringEntry, "test1");
+            for (int i = 0; i < 100; i++) {
+                transaction.set(countingEntry, new Custom(String.valueOf(i)));
+            }
+            assertEquals(20, transaction.get(integerEntry));
+            assertEquals(10, integerEntry.get());
+            transaction.set(integerEntry, 200);
+        });
+
+        assertEquals(100, integerEntry.get());
+        assertEquals("test1", stringEntry.get());
+        assertEquals("99", countingEntry.get().value);
+        assertEquals("100", config.get("integer"));
+        assertEquals("test1", config.get("string"));
+        assertEquals("99", config.get("counting"));
+        assertEquals(serializations + 1, serializer.serializations.get());
+
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+
+        assertEquals(1, scheduler.getQueueDepth());
+        assertEquals(0, scheduler.getCoalescedSaves());
+        scheduler.shutdown();
+        assertEquals(1, scheduler.getCompletedSaves());
+    }
+
+    @Test
+    @DisplayName("Rollback on exception")
+    void rollback() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        ConfigEntry<Integer> integerEntry = builder.integerEntry("integer", 10);
+        CommentedPropertyConfig config = (CommentedPropertyConfig) integerEntry.getConfig();
+
+        assertThrows(IllegalStateException.class, () -> config.update(transaction -> {
+            transaction.set(integerEntry, 20);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(10, integerEntry.get());
+        assertEquals("10", config.get("integer"));
+    }
+
+    @Test
+    @DisplayName("Rollback on serialization failure")
+    void serializationFailure() {
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().build(), Collections.singletonMap(Custom.class, new CountingSerializer()));
+        ConfigEntry<Integer> integerEntry = builder.integerEntry("integer", 10);
+        ConfigEntry<Custom> customEntry = builder.entry("custom", new Custom("default"));
+        CommentedPropertyConfig config = (CommentedPropertyConfig) integerEntry.getConfig();
+        List<List<ConfigChange<?>>> batches = new ArrayList<>();
+        config.addListener(batches::add);
+
+        assertThrows(IllegalStateException.class, () -> config.update(transaction -> transaction
+                .set(integerEntry, 20)
+                .set(customEntry, new Custom("fail"))
+        ));
+
+        assertEquals(10, integerEntry.get());
+        assertEquals("default", customEntry.get().value);
+        assertEquals("10", config.get("integer"));
+        assertEquals("default", config.get("custom"));
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reset")
+    void reset() {
+        ConfigBuilderImpl builder = TestUtils.createInMemoryBuilder();
+        ConfigEntry<Integer> integerEntry = builder.integerEntry("integer", 10);
+        CommentedPropertyConfig config = (CommentedPropertyConfig) integerEntry.getConfig();
+        integerEntry.set(20);
+
+        config.update(transaction -> transaction.reset(integerEntry));
+        assertEquals(10, integerEntry.get());
+    }
+
+    @Test
+    @DisplayName("Entry of another config")
+    void foreignEntry() {
+        ConfigEntry<Integer> entry1 = TestUtils.createInMemoryBuilder().integerEntry("integer", 10);
+        ConfigEntry<Integer> entry2 = TestUtils.createInMemoryBuilder().integerEntry("integer", 10);
+        CommentedPropertyConfig config = (CommentedPropertyConfig) entry1.getConfig();
+
+        assertThrows(IllegalArgumentException.class, () -> config.update(transaction -> transaction.set(entry2, 20)));
+        assertEquals(10, entry2.get());
+    }
+
+    private static class Custom {
+        private final String value;
+
+        public Custom(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Custom && ((Custom) o).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    private static class CountingSerializer implements ValueSerializer<Custom> {
+        private final AtomicInteger serializations = new AtomicInteger();
+
+        @Nullable
+        @Override
+        public Custom deserialize(String str) {
+            return new Custom(str);
+        }
+
+        @Nullable
+        @Override
+        public String serialize(Custom val) {
+            serializations.incrementAndGet();
+            if (val.value.equals("fail")) {
+                throw new IllegalStateException("Failed to serialize");
+            }
+            return val.value;
+        }
+    }
+
+}
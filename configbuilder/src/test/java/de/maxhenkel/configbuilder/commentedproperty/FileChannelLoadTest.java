@@ -0,0 +1,80 @@
+package de.maxhenkel.configbuilder.commentedproperty;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileChannelLoadTest {
+
+    @Test
+    @DisplayName("Load small file")
+    void loadSmallFile(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "# Header\n\n# Comment\ntest=123\\\n456\ntest2=\\u00B0".getBytes(StandardCharsets.UTF_8));
+
+        CommentedPropertyConfig config = CommentedPropertyConfig.builder().path(path).fileChannelLoading(true).build();
+        assertEquals("123456", config.get("test"));
+        assertEquals("°", config.get("test2"));
+        assertEquals(Collections.singletonList("Comment"), config.getProperties().getComments("test"));
+    }
+
+    @Test
+    @DisplayName("Load large file")
+    void loadLargeFile(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 2 * 1024 * 1024; i++) {
+            sb.append("key_").append(i).append("=value_").append(i).append('\n');
+        }
+        Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        CommentedProperties channelProperties = new CommentedProperties(false).load(path);
+        CommentedProperties streamProperties = new CommentedProperties(false);
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            streamProperties.load(inputStream);
+        }
+        assertEquals(streamProperties.size(), channelProperties.size());
+        for (String key : streamProperties.keySet()) {
+            assertEquals(streamProperties.get(key), channelProperties.get(key));
+        }
+
+        // The loaded file must not stay mapped, so that it can be replaced when saving
+        CommentedPropertyConfig config = CommentedPropertyConfig.builder().path(path).fileChannelLoading(true).build();
+        config.set("key_0", "changed");
+        config.saveSync();
+        assertTrue(new String(Files.readAllBytes(path), StandardCharsets.UTF_8).startsWith("key_0=changed\n"));
+    }
+
+    @Test
+    @DisplayName("Charset")
+    void charset(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=°".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("°", new CommentedProperties(false).load(path).get("test"));
+        assertEquals(new String("°".getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1), new CommentedProperties(true).load(path).get("test"));
+    }
+
+    @Test
+    @DisplayName("Empty file")
+    void emptyFile(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, new byte[0]);
+
+        assertEquals(0, new CommentedProperties(false).load(path).size());
+    }
+
+}
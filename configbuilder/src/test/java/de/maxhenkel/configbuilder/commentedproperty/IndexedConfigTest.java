@@ -0,0 +1,122 @@
+package de.maxhenkel.configbuilder.commentedproperty;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import de.maxhenkel.configbuilder.IndexedPropertyConfig;
+import de.maxhenkel.configbuilder.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedConfigTest {
+
+    private static final String CONTENT = "# Header\n\n# Comment\ntest=123\\\n    456\r\nünicode=°\\u00B0\n  spaces   value with spaces\n! comment\\\nstill=comment\nduplicate=1\nescaped\\=key=value\nduplicate=2\nempty=\nlast=end";
+
+    @Test
+    @DisplayName("Indexed lookups")
+    void indexedLookups(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(path).strict(false).build();
+        CommentedProperties properties = new CommentedProperties(false).load(path);
+
+        assertEquals(properties.size(), config.getEntries().size());
+        for (String key : properties.keySet()) {
+            assertEquals(properties.get(key), config.get(key), key);
+        }
+        assertEquals("2", config.get("duplicate"));
+        assertEquals("°°", config.get("ünicode"));
+        assertNull(config.get("still"));
+        assertNull(config.get("missing"));
+        for (Map.Entry<String, String> entry : config.getEntries().entrySet()) {
+            assertEquals(properties.get(entry.getKey()), entry.getValue());
+        }
+        assertTrue(Files.exists(path.resolveSibling(String.format(".%s.idx", path.getFileName()))));
+    }
+
+    @Test
+    @DisplayName("Strict indexed lookups")
+    void strictIndexedLookups(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, CONTENT.getBytes(StandardCharsets.ISO_8859_1));
+
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(path).strict(true).build();
+        CommentedProperties properties = new CommentedProperties(true).load(path);
+
+        for (String key : properties.keySet()) {
+            assertEquals(properties.get(key), config.get(key), key);
+        }
+        assertEquals("°°", config.get("ünicode"));
+    }
+
+    @Test
+    @DisplayName("Reuse and rebuild index")
+    void rebuildIndex(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Path index = path.resolveSibling(String.format(".%s.idx", path.getFileName()));
+        Files.write(path, "test=123\n".getBytes(StandardCharsets.UTF_8));
+
+        IndexedPropertyConfig.builder().path(path).build();
+        FileTime oldTime = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(index, oldTime);
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(path).build();
+        assertEquals(oldTime, Files.getLastModifiedTime(index));
+        assertEquals("123", config.get("test"));
+
+        Files.write(path, "test=456\nother=789\n".getBytes(StandardCharsets.UTF_8));
+        config.reload();
+        assertEquals("456", config.get("test"));
+        assertEquals("789", config.get("other"));
+        assertNotEquals(oldTime, Files.getLastModifiedTime(index));
+
+        Files.write(index, new byte[]{1, 2, 3});
+        config.reload();
+        assertEquals("456", config.get("test"));
+    }
+
+    @Test
+    @DisplayName("Large mapped file")
+    void largeFile(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 2 * 1024 * 1024; i++) {
+            sb.append("key_").append(i).append("=välue_").append(i).append('\n');
+        }
+        Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(path).strict(false).build();
+        assertEquals("välue_0", config.get("key_0"));
+        assertEquals("välue_12345", config.get("key_12345"));
+        assertNull(config.get("key_-1"));
+    }
+
+    @Test
+    @DisplayName("Read-only")
+    void readOnly(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=123\n".getBytes(StandardCharsets.UTF_8));
+
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(path).build();
+        assertThrows(UnsupportedOperationException.class, () -> config.getEntries().put("test", "456"));
+        assertThrows(UnsupportedOperationException.class, () -> config.getEntries().remove("test"));
+        assertEquals("test=123\n", new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Missing file")
+    void missingFile(@TempDir Path tempDir) {
+        IndexedPropertyConfig config = IndexedPropertyConfig.builder().path(TestUtils.randomConfigName(tempDir)).build();
+        assertNull(config.get("test"));
+        assertEquals(0, config.getEntries().size());
+    }
+
+}
@@ -263,6 +263,32 @@ public class ParseTest {
         testInput("test=test\\t\\r\\n\\ftest", "test", "test\t\r\n\ftest");
     }
 
+    @Test
+    @DisplayName("Escaped backslash at end of line")
+    void escapedBackslashAtEndOfLine() throws IOException {
+        testInput("test=123\\\\\ntest1=456", "test", "123\\");
+        testInput("test=123\\\\\ntest1=456", "test1", "456");
+        testInput("test=123\\\\\\\n456", "test", "123\\456");
+    }
+
+    @Test
+    @DisplayName("Escaped new line with carriage return")
+    void escapedNewLineWithCarriageReturn() throws IOException {
+        testInput("test=123\\\r\n456\\\r789", "test", "123456789");
+    }
+
+    @Test
+    @DisplayName("Many escaped new lines")
+    void manyEscapedNewLines() throws IOException {
+        StringBuilder input = new StringBuilder("test=");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            input.append(i).append("\\\n");
+            expected.append(i);
+        }
+        testInput(input.toString(), "test", expected.toString());
+    }
+
     private static void testInput(String input, String entryName, String expectedOutput) throws IOException {
         ByteArrayInputStream in1 = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
         CommentedProperties commentedProperties = new CommentedProperties();
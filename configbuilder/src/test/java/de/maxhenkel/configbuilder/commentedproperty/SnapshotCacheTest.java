@@ -0,0 +1,105 @@
+package de.maxhenkel.configbuilder.commentedproperty;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotCacheTest {
+
+    private static final String CONFIG = "# Header\n\n# Comment 1\n# Comment 2\ntest=123\\\n456\ntest2=\\u00B0\nempty=\n# Comment 3\nkey\\ with\\ spaces=value";
+
+    @Test
+    @DisplayName("Load from snapshot")
+    void loadFromSnapshot(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, CONFIG.getBytes(StandardCharsets.UTF_8));
+        Path snapshot = snapshotPath(path);
+
+        CommentedPropertyConfig parsed = CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+        assertTrue(Files.exists(snapshot));
+        FileTime old = FileTime.fromMillis(0L);
+        Files.setLastModifiedTime(snapshot, old);
+
+        CommentedPropertyConfig cached = CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+        assertEquals(old, Files.getLastModifiedTime(snapshot));
+        assertEquals(new HashMap<>(parsed.getEntries()), new HashMap<>(cached.getEntries()));
+        assertEquals("123456", cached.get("test"));
+        assertEquals("°", cached.get("test2"));
+        assertEquals("", cached.get("empty"));
+        assertEquals("value", cached.get("key with spaces"));
+        assertEquals(render(parsed), render(cached));
+        assertEquals(Arrays.asList("Comment 1", "Comment 2"), cached.getProperties().getComments("test"));
+        assertEquals(Collections.singletonList("Comment 3"), cached.getProperties().getComments("key with spaces"));
+        assertEquals(Arrays.asList("test", "test2", "empty", "key with spaces"), Arrays.asList(cached.getProperties().keySet().toArray()));
+    }
+
+    @Test
+    @DisplayName("Invalidate snapshot")
+    void invalidateSnapshot(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=1".getBytes(StandardCharsets.UTF_8));
+        FileTime modified = Files.getLastModifiedTime(path);
+
+        CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+
+        // Same size and modification time, but different content
+        Files.write(path, "test=2".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, modified);
+
+        CommentedPropertyConfig config = CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+        assertEquals("2", config.get("test"));
+    }
+
+    @Test
+    @DisplayName("Corrupted snapshot")
+    void corruptedSnapshot(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, CONFIG.getBytes(StandardCharsets.UTF_8));
+        Path snapshot = snapshotPath(path);
+
+        CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 6));
+
+        CommentedPropertyConfig config = CommentedPropertyConfig.builder().path(path).snapshotCache(true).build();
+        assertEquals("123456", config.get("test"));
+        assertEquals("value", config.get("key with spaces"));
+        assertArrayEquals(bytes, Files.readAllBytes(snapshot));
+    }
+
+    @Test
+    @DisplayName("Charset")
+    void charset(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=°".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("°", CommentedPropertyConfig.builder().path(path).strict(false).fileChannelLoading(true).snapshotCache(true).build().get("test"));
+        assertEquals(new String("°".getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1), CommentedPropertyConfig.builder().path(path).strict(true).fileChannelLoading(true).snapshotCache(true).build().get("test"));
+        assertEquals("°", CommentedPropertyConfig.builder().path(path).strict(false).fileChannelLoading(true).snapshotCache(true).build().get("test"));
+    }
+
+    private static String render(CommentedPropertyConfig config) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        config.getProperties().save(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Path snapshotPath(Path path) {
+        return path.resolveSibling(String.format(".%s.bin", path.getFileName()));
+    }
+
+}
@@ -0,0 +1,79 @@
+package de.maxhenkel.configbuilder.commentedproperty;
+
+import de.maxhenkel.configbuilder.CommentedProperties;
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotTest {
+
+    @Test
+    @DisplayName("Concurrent reads while reloading")
+    void readWhileReloading(@TempDir Path tempDir) throws IOException, InterruptedException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("key_").append(i).append("=value_").append(i).append('\n');
+        }
+        Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+        CommentedPropertyConfig config = CommentedPropertyConfig.builder().path(path).build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (!"value_999".equals(config.get("key_999")) || config.getProperties().size() != 1000) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            config.reload();
+        }
+        running.set(false);
+        reader.join();
+
+        assertEquals(0, failures.get());
+    }
+
+    @Test
+    @DisplayName("Keys are a live view")
+    void keySetView() {
+        CommentedProperties properties = new CommentedProperties();
+        properties.set("test1", "123");
+        Set<String> keys = properties.keySet();
+        properties.set("test2", "456");
+        assertEquals(2, keys.size());
+        assertTrue(keys.contains("test2"));
+        assertEquals(Arrays.asList("test1", "test2"), new ArrayList<>(keys));
+        properties.clear();
+        assertTrue(keys.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> keys.remove("test1"));
+        assertThrows(UnsupportedOperationException.class, () -> keys.add("test1"));
+
+        properties.set("test1", "123");
+        properties.set("test2", "456");
+        Iterator<String> iterator = keys.iterator();
+        iterator.next();
+        properties.remove("test1");
+        assertDoesNotThrow(iterator::hasNext);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+}
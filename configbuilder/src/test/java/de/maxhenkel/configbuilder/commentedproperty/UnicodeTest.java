@@ -31,6 +31,16 @@ public class UnicodeTest {
         testInputOutput(sb.toString(), sb.toString());
     }
 
+    @Test
+    @DisplayName("Long unicode value")
+    void longUnicodeValue() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append("äöü°§╦\uD83D\uDE02");
+        }
+        testInputOutput("test", sb.toString());
+    }
+
     private static void testInputOutput(String key, String value) throws IOException {
         CommentedProperties commentedPropertiesIn = new CommentedProperties();
         commentedPropertiesIn.set(key, value);
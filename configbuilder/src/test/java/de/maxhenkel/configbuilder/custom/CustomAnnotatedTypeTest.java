@@ -30,6 +30,18 @@ public class CustomAnnotatedTypeTest {
         assertNotNull(genericEntry.getSerializer());
     }
 
+    @Test
+    @DisplayName("Shared serializer instance")
+    void sharedSerializer(@TempDir Path tempDir) {
+        ConfigBuilderImpl builder = TestUtils.createBuilderWithRandomPath(tempDir);
+        GenericConfigEntry<CustomType> entry1 = (GenericConfigEntry<CustomType>) builder.entry("test1", new CustomType("test1"));
+        GenericConfigEntry<CustomType> entry2 = (GenericConfigEntry<CustomType>) builder.entry("test2", new CustomType("test2"));
+        GenericConfigEntry<CustomType> entry3 = (GenericConfigEntry<CustomType>) TestUtils.createBuilderWithRandomPath(tempDir).entry("test3", new CustomType("test3"));
+        assertInstanceOf(CustomTypeEntrySerializer.class, entry1.getSerializer());
+        assertSame(entry1.getSerializer(), entry2.getSerializer());
+        assertSame(entry1.getSerializer(), entry3.getSerializer());
+    }
+
     @Test
     @DisplayName("Save with null value")
     void saveNull(@TempDir Path tempDir) {
@@ -0,0 +1,189 @@
+package de.maxhenkel.configbuilder.custom;
+
+import de.maxhenkel.configbuilder.CommentedPropertyConfig;
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.GenericConfigEntry;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomTypeTest {
+
+    @Test
+    @DisplayName("Custom value")
+    void customValue() {
+        ConfigEntry<CustomType> entry = ConfigBuilder
+                .builder(configBuilder -> configBuilder.entry("test", new CustomType("valid")))
+                .addValueSerializer(CustomType.class, CustomTypeEntrySerializer.INSTANCE)
+                .build();
+        assertInstanceOf(GenericConfigEntry.class, entry);
+        GenericConfigEntry<CustomType> genericEntry = (GenericConfigEntry<CustomType>) entry;
+        assertNotNull(genericEntry.getSerializer());
+        assertEquals("valid", entry.get().getValue());
+        entry.set(new CustomType("invalid"));
+        assertEquals("valid", entry.get().getValue());
+        entry.set(new CustomType("valid2"));
+        assertEquals("valid2", entry.get().getValue());
+    }
+
+    @Test
+    @DisplayName("Custom value without registering")
+    void customValueWithoutRegistering() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> {
+            ConfigBuilder
+                    .builder(configBuilder -> configBuilder.entry("test", new CustomType("valid")))
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("Custom value with explicit serializer")
+    void explicitSerializer() {
+        ConfigEntry<CustomType> entry = ConfigBuilder
+                .builder(configBuilder -> configBuilder.entry("test", new CustomType("valid"), CustomTypeEntrySerializer.INSTANCE, "Comment"))
+                .build();
+        assertSame(CustomTypeEntrySerializer.INSTANCE, ((GenericConfigEntry<CustomType>) entry).getSerializer());
+        assertEquals("valid", entry.get().getValue());
+        assertArrayEquals(new String[]{"Comment"}, entry.getComments());
+        assertThrowsExactly(NullPointerException.class, () -> {
+            ConfigBuilder
+                    .builder(configBuilder -> configBuilder.entry("test", new CustomType("valid"), (ValueSerializer<CustomType>) null))
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("Custom value of a subclass")
+    void subclass() {
+        // The serializer of the superclass doesn't create instances of the subclass
+        assertThrowsExactly(IllegalArgumentException.class, () -> {
+            ConfigBuilder
+                    .builder(configBuilder -> configBuilder.entry("test", new CustomSubType("valid")))
+                    .addValueSerializer(CustomType.class, CustomTypeEntrySerializer.INSTANCE)
+                    .build();
+        });
+        assertThrowsExactly(IllegalArgumentException.class, () -> {
+            ConfigBuilder
+                    .builder(configBuilder -> configBuilder.entry("test", new NamedType("valid")))
+                    .addValueSerializer(Named.class, NamedSerializer.INSTANCE)
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("Custom value of an interface")
+    void customInterface(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, Arrays.asList("named=fromFile"), StandardCharsets.UTF_8);
+        Map<Class<?>, ValueSerializer<?>> serializers = new HashMap<>();
+        serializers.put(Named.class, NamedTypeSerializer.INSTANCE);
+        ConfigBuilderImpl builder = new ConfigBuilderImpl(CommentedPropertyConfig.builder().path(path).build(), serializers);
+        ConfigEntry<NamedType> named = builder.entry("named", new NamedType("default"));
+        TestUtils.finalizeBuilder(builder);
+
+        assertSame(NamedTypeSerializer.INSTANCE, ((GenericConfigEntry<NamedType>) named).getSerializer());
+        assertEquals("fromFile", named.get().getName());
+        assertEquals(Arrays.asList("named=fromFile"), Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    static class CustomType {
+        private final String value;
+
+        public CustomType(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    static class CustomTypeEntrySerializer implements ValueSerializer<CustomType> {
+
+        public static final CustomTypeEntrySerializer INSTANCE = new CustomTypeEntrySerializer();
+
+        @Override
+        public CustomType deserialize(String str) {
+            if (str.equals("invalid")) {
+                return null;
+            }
+            return new CustomType(str);
+        }
+
+        @Override
+        public String serialize(CustomType val) {
+            if (val.getValue().equals("invalid")) {
+                return null;
+            }
+            return val.getValue();
+        }
+    }
+
+    static class CustomSubType extends CustomType {
+        public CustomSubType(String value) {
+            super(value);
+        }
+    }
+
+    interface Named {
+        String getName();
+    }
+
+    static class NamedType implements Named {
+        private final String name;
+
+        public NamedType(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    static class NamedSerializer implements ValueSerializer<Named> {
+
+        public static final NamedSerializer INSTANCE = new NamedSerializer();
+
+        @Override
+        public Named deserialize(String str) {
+            return new NamedType(str);
+        }
+
+        @Override
+        public String serialize(Named val) {
+            return val.getName();
+        }
+    }
+
+    static class NamedTypeSerializer implements ValueSerializer<NamedType> {
+
+        public static final NamedTypeSerializer INSTANCE = new NamedTypeSerializer();
+
+        @Override
+        public NamedType deserialize(String str) {
+            return new NamedType(str);
+        }
+
+        @Override
+        public String serialize(NamedType val) {
+            return val.getName();
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package de.maxhenkel.configbuilder.custom;
+
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.custom.serializer.DoubleListValueSerializer;
+import de.maxhenkel.configbuilder.custom.serializer.IntegerListValueSerializer;
+import de.maxhenkel.configbuilder.custom.serializer.LongListValueSerializer;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListTest {
+
+    @Test
+    @DisplayName("String list")
+    void stringList(@TempDir Path tempDir) throws IOException {
+        GenericTypeTest.testGenericValue(tempDir, StringList.of(), StringList.of("test", "123", ",", "\\,", "\\\\,"));
+        GenericTypeTest.testGenericValue(tempDir, StringList.of(), StringList.of(Arrays.asList("test", "123", ",", "\\,", "\\\\,")));
+
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=test\\\\,123".getBytes(StandardCharsets.UTF_8));
+        ConfigBuilderImpl builder = TestUtils.createBuilder(path);
+        ConfigEntry<StringList> entry = builder.entry("test", StringList.of());
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(1, entry.get().size());
+        assertEquals("test,123", entry.get().get(0));
+    }
+
+    @Test
+    @DisplayName("Integer list")
+    void integerList(@TempDir Path tempDir) throws IOException {
+        GenericTypeTest.testGenericValue(tempDir, IntegerList.of(), IntegerList.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 0));
+        GenericTypeTest.testGenericValue(tempDir, IntegerList.of(), IntegerList.of(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 0)));
+
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=-100,100\ninvalid_test=1,2,a,3,4".getBytes(StandardCharsets.UTF_8));
+        ConfigBuilderImpl builder = TestUtils.createBuilder(path);
+        ConfigEntry<IntegerList> entry = builder.entry("test", IntegerList.of());
+        ConfigEntry<IntegerList> invalidEntry = builder.entry("invalid_test", IntegerList.of());
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(2, entry.get().size());
+        assertEquals(-100, entry.get().get(0));
+        assertEquals(100, entry.get().get(1));
+        assertEquals(0, invalidEntry.get().size());
+    }
+
+    @Test
+    @DisplayName("Integer list parsing")
+    void integerListParsing() {
+        IntegerListValueSerializer serializer = IntegerListValueSerializer.INSTANCE;
+        assertEquals(IntegerList.of(1, 2), serializer.deserialize("1,2,,"));
+        assertEquals(IntegerList.of(), serializer.deserialize(",,"));
+        assertEquals(IntegerList.of(5, -5), serializer.deserialize("+5,-5"));
+        assertEquals(IntegerList.of(Integer.MIN_VALUE, Integer.MAX_VALUE), serializer.deserialize("-2147483648,2147483647"));
+        assertNull(serializer.deserialize(""));
+        assertNull(serializer.deserialize(",1"));
+        assertNull(serializer.deserialize("1,,2"));
+        assertNull(serializer.deserialize("1, 2"));
+        assertNull(serializer.deserialize("1,+"));
+        assertNull(serializer.deserialize("1,-"));
+        assertNull(serializer.deserialize("2147483648"));
+        assertNull(serializer.deserialize("-2147483649"));
+        assertEquals("-2147483648,0,2147483647", serializer.serialize(IntegerList.of(Integer.MIN_VALUE, 0, Integer.MAX_VALUE)));
+        assertEquals("", serializer.serialize(IntegerList.of()));
+
+        // The lists are split like String.split
+        for (String str : new String[]{"1", "12,34", "1,2,3,", "-1,,", ",", "a", "1,a,2", "99999999999"}) {
+            IntegerList expected;
+            try {
+                expected = IntegerList.of(Arrays.stream(str.split(",")).map(Integer::valueOf).collect(Collectors.toList()));
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            assertEquals(expected, serializer.deserialize(str), str);
+        }
+    }
+
+    @Test
+    @DisplayName("Long list")
+    void longList(@TempDir Path tempDir) throws IOException {
+        GenericTypeTest.testGenericValue(tempDir, LongList.of(), LongList.of(1L, Long.MIN_VALUE, Long.MAX_VALUE));
+        GenericTypeTest.testGenericValue(tempDir, LongList.of(), LongList.of(new long[]{1L, 2L, 3L}));
+
+        LongListValueSerializer serializer = LongListValueSerializer.INSTANCE;
+        assertEquals(LongList.of(Long.MIN_VALUE, Long.MAX_VALUE), serializer.deserialize("-9223372036854775808,9223372036854775807"));
+        assertNull(serializer.deserialize("9223372036854775808"));
+        assertNull(serializer.deserialize("1,a"));
+        assertEquals("-1,2", serializer.serialize(LongList.of(-1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Double list")
+    void doubleList(@TempDir Path tempDir) throws IOException {
+        GenericTypeTest.testGenericValue(tempDir, DoubleList.of(), DoubleList.of(1.5D, -2D, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY));
+        GenericTypeTest.testGenericValue(tempDir, DoubleList.of(), DoubleList.of(new double[]{1D, 2D, 3D}));
+
+        DoubleListValueSerializer serializer = DoubleListValueSerializer.INSTANCE;
+        assertEquals(DoubleList.of(1D, 2.5D), serializer.deserialize("1,2.5,"));
+        assertNull(serializer.deserialize(""));
+        assertNull(serializer.deserialize("1,a"));
+        assertEquals("1.0,-2.5", serializer.serialize(DoubleList.of(1D, -2.5D)));
+    }
+
+    @Test
+    @DisplayName("Primitive lists")
+    void primitiveLists() {
+        int[] values = {5, 1, 3};
+        IntegerList unsorted = IntegerList.of(values);
+        values[0] = 0;
+        assertEquals(5, unsorted.getInt(0));
+        assertArrayEquals(new int[]{5, 1, 3}, unsorted.toIntArray());
+        int[] wrappedValues = {5, 1, 3};
+        assertEquals(unsorted, IntegerList.wrap(wrappedValues));
+        wrappedValues[0] = 0;
+        assertEquals(0, IntegerList.wrap(wrappedValues).getInt(0));
+        assertEquals(LongList.of(1L, 2L), LongList.wrap(new long[]{1L, 2L}));
+        assertEquals(DoubleList.of(1D, 2D), DoubleList.wrap(new double[]{1D, 2D}));
+        assertEquals(9, unsorted.intStream().sum());
+        assertFalse(unsorted.isSorted());
+        assertTrue(unsorted.contains(3));
+        assertTrue(unsorted.contains((Object) 3));
+        assertFalse(unsorted.contains(4));
+        assertFalse(unsorted.contains("3"));
+        assertEquals(1, unsorted.indexOf(1));
+        assertEquals(1, unsorted.indexOf((Object) 1));
+        assertEquals(-1, unsorted.indexOf(4));
+        assertThrowsExactly(IllegalStateException.class, () -> unsorted.binarySearch(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> unsorted.get(3));
+
+        IntegerList sorted = IntegerList.of(1, 2, 2, 2, 5);
+        assertTrue(sorted.isSorted());
+        assertEquals(1, sorted.indexOf(2));
+        assertEquals(3, sorted.lastIndexOf(2));
+        assertEquals(4, sorted.binarySearch(5));
+        assertEquals(-5, sorted.binarySearch(3));
+        assertTrue(sorted.contains(5));
+        assertFalse(sorted.contains(3));
+
+        assertEquals(Arrays.asList(5, 1, 3), unsorted);
+        assertEquals(Arrays.asList(5, 1, 3).hashCode(), unsorted.hashCode());
+        assertEquals(IntegerList.of(Arrays.asList(5, 1, 3)), unsorted);
+        assertNotEquals(IntegerList.of(5, 1), unsorted);
+
+        LongList longList = LongList.of(1L, 2L, 3L);
+        assertEquals(2L, longList.getLong(1));
+        assertTrue(longList.contains(3L));
+        assertEquals(2, longList.binarySearch(3L));
+        assertEquals(Arrays.asList(1L, 2L, 3L).hashCode(), longList.hashCode());
+
+        DoubleList doubleList = DoubleList.of(-0D, 0D, Double.NaN);
+        assertTrue(doubleList.isSorted());
+        assertTrue(doubleList.contains(Double.NaN));
+        assertEquals(1, doubleList.indexOf(0D));
+        assertEquals(0, doubleList.indexOf(-0D));
+        assertEquals(Arrays.asList(-0D, 0D, Double.NaN), doubleList);
+        assertEquals(Arrays.asList(-0D, 0D, Double.NaN).hashCode(), doubleList.hashCode());
+    }
+
+    @Test
+    @DisplayName("List compliance")
+    void listCompliance() {
+        StringList stringList = StringList.of("test", "123");
+
+        assertEquals(2, stringList.size());
+        assertFalse(stringList.isEmpty());
+        assertTrue(stringList.contains("test"));
+        assertNotNull(stringList.iterator());
+        assertEquals(2, stringList.toArray().length);
+        assertEquals(2, stringList.toArray(new String[2]).length);
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.add("123"));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.remove("123"));
+        assertTrue(stringList.containsAll(Arrays.asList("test", "123")));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.addAll(Arrays.asList("test", "123")));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.addAll(0, Arrays.asList("test", "123")));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.removeAll(Arrays.asList("test", "123")));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.retainAll(Arrays.asList("test", "123")));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.clear());
+        assertEquals("test", stringList.get(0));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.set(0, "123"));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.add(0, "123"));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> stringList.remove(0));
+        assertEquals(0, stringList.indexOf("test"));
+        assertEquals(0, stringList.lastIndexOf("test"));
+        assertNotNull(stringList.listIterator());
+        assertNotNull(stringList.listIterator(0));
+        assertEquals(1, stringList.subList(0, 1).size());
+        assertFalse(stringList.equals(null));
+        assertFalse(stringList.equals(new Object()));
+        assertDoesNotThrow(() -> stringList.hashCode());
+    }
+
+}
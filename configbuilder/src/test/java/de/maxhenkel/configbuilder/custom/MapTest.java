@@ -3,6 +3,7 @@ package de.maxhenkel.configbuilder.custom;
 import de.maxhenkel.configbuilder.CommentedProperties;
 import de.maxhenkel.configbuilder.ConfigBuilderImpl;
 import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.custom.serializer.StringMapValueSerializer;
 import de.maxhenkel.configbuilder.entry.ConfigEntry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +41,78 @@ public class MapTest {
         testMap(tempDir, "\"test\"=\"123\" x \"123\"=\"test\"", "", StringMap.of());
     }
 
+    @Test
+    @DisplayName("String map parsing")
+    void stringMapParsing() {
+        StringMapValueSerializer serializer = StringMapValueSerializer.INSTANCE;
+        assertEquals(StringMap.of(), serializer.deserialize(""));
+        assertEquals(StringMap.of(), serializer.deserialize(" , "));
+        assertEquals(StringMap.builder().put("a", "b\\c").build(), serializer.deserialize("\"a\"=\"b\\c\""));
+        assertEquals(StringMap.builder().put("a", "c").build(), serializer.deserialize("\"a\"=\"b\",\"a\"=\"c\""));
+        assertNull(serializer.deserialize("\"a\"=\"b\",,\"c\"=\"d\""));
+        assertNull(serializer.deserialize("\"a\"=\"b"));
+        assertNull(serializer.deserialize("\"a\"=\"b\\\""));
+        assertNull(serializer.deserialize("\"a\"\"b\""));
+        assertNull(serializer.deserialize("\"a\nb\"=\"c\""));
+        assertEquals("\"a\\\"\"=\"\\\\\"", serializer.serialize(StringMap.builder().put("a\"", "\\").build()));
+
+        // The parser has to behave exactly like the previous regex based implementation
+        Random random = new Random(0L);
+        char[] alphabet = {'"', '"', '\\', '=', ',', ' ', '\t', '\n', '\r', '\u0001', '\u2028', 'a', 'b'};
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String str = sb.toString();
+            assertEquals(regexDeserialize(str), serializer.deserialize(str), str);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            StringMap.Builder builder = StringMap.builder();
+            int size = random.nextInt(4);
+            for (int j = 0; j < size; j++) {
+                builder.put(randomString(random), randomString(random));
+            }
+            StringMap map = builder.build();
+            assertEquals(regexSerialize(map), serializer.serialize(map));
+            assertEquals(map, serializer.deserialize(serializer.serialize(map)));
+        }
+    }
+
+    private static String randomString(Random random) {
+        char[] alphabet = {'"', '\\', '=', ',', ' ', 'a', 'b'};
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static final Pattern QUOTE_ESCAPE_PATTERN = Pattern.compile("\"((?:(?![\"\\\\]).|\\\\.)*)\"\\s*=\\s*\"((?:(?![\"\\\\]).|\\\\.)*)\"");
+
+    private static StringMap regexDeserialize(String str) {
+        boolean matches = QUOTE_ESCAPE_PATTERN.splitAsStream(str).allMatch(s -> s.trim().isEmpty() || s.trim().equals(","));
+        if (!matches) {
+            return null;
+        }
+        Map<String, String> map = new LinkedHashMap<>();
+        Matcher matcher = QUOTE_ESCAPE_PATTERN.matcher(str);
+        while (matcher.find()) {
+            map.put(matcher.group(1).replace("\\\"", "\"").replace("\\\\", "\\"), matcher.group(2).replace("\\\"", "\"").replace("\\\\", "\\"));
+        }
+        return StringMap.of(map);
+    }
+
+    private static String regexSerialize(StringMap val) {
+        List<String> resultList = new ArrayList<>(val.size());
+        for (Map.Entry<String, String> entry : val.entrySet()) {
+            resultList.add("\"" + entry.getKey().replace("\\", "\\\\").replace("\"", "\\\"") + "\"=\"" + entry.getValue().replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        }
+        return String.join(",", resultList);
+    }
+
     private static void testMap(Path tempDir, String cfgValue, Map<String, String> map) throws IOException {
         testMap(tempDir, cfgValue, cfgValue, map);
     }
@@ -0,0 +1,82 @@
+package de.maxhenkel.configbuilder.custom;
+
+import de.maxhenkel.configbuilder.ConfigBuilderImpl;
+import de.maxhenkel.configbuilder.TestUtils;
+import de.maxhenkel.configbuilder.custom.serializer.StringSetValueSerializer;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SetTest {
+
+    @Test
+    @DisplayName("String set")
+    void stringSet(@TempDir Path tempDir) throws IOException {
+        GenericTypeTest.testGenericValue(tempDir, StringSet.of(), StringSet.of("test", "123", ",", "\\,", "\\\\,"));
+        GenericTypeTest.testGenericValue(tempDir, StringSet.of(), StringSet.of(Arrays.asList("test", "123", ",", "\\,", "\\\\,")));
+
+        Path path = TestUtils.randomConfigName(tempDir);
+        Files.write(path, "test=c,a\\\\,b,c,a".getBytes(StandardCharsets.UTF_8));
+        ConfigBuilderImpl builder = TestUtils.createBuilder(path);
+        ConfigEntry<StringSet> entry = builder.entry("test", StringSet.of());
+        TestUtils.finalizeBuilder(builder);
+        assertEquals(Arrays.asList("c", "a,b", "a"), new ArrayList<>(entry.get()));
+        assertTrue(entry.get().contains("a,b"));
+        assertFalse(entry.get().contains("b"));
+    }
+
+    @Test
+    @DisplayName("Reorder string set")
+    void reorderStringSet(@TempDir Path tempDir) throws IOException {
+        Path path = TestUtils.randomConfigName(tempDir);
+        ConfigBuilderImpl builder = TestUtils.createBuilder(path);
+        ConfigEntry<StringSet> entry = builder.entry("test", StringSet.of("a", "b"));
+        TestUtils.finalizeBuilder(builder);
+        List<StringSet> changes = new ArrayList<>();
+        entry.addListener(change -> changes.add(change.getNewValue()));
+
+        entry.set(StringSet.of("b", "a")).saveSync();
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(entry.get()));
+        assertEquals(Collections.singletonList(StringSet.of("b", "a")), changes);
+        assertTrue(Files.readAllLines(path, StandardCharsets.UTF_8).contains("test=b,a"));
+    }
+
+    @Test
+    @DisplayName("String set order")
+    void stringSetOrder() {
+        StringSet set = StringSet.of("b", "a", "c", "a", "b");
+        assertEquals(3, set.size());
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(set));
+        assertEquals("b,a,c", StringSetValueSerializer.INSTANCE.serialize(set));
+        assertEquals("", StringSetValueSerializer.INSTANCE.serialize(StringSet.of()));
+        assertEquals(StringSet.of("b", "a", "c"), set);
+        assertTrue(set.equalsInOrder(StringSet.of("b", "a", "c")));
+        assertFalse(set.equalsInOrder(StringSet.of("a", "b", "c")));
+        assertNotEquals(StringList.of("a", "b", "c"), set);
+
+        // The order doesn't affect the equality of sets
+        Set<String> hashSet = new HashSet<>(Arrays.asList("a", "b", "c"));
+        assertEquals(StringSet.of("a", "b", "c"), set);
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertTrue(Collections.singleton(hashSet).contains(set));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> set.add("d"));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+}
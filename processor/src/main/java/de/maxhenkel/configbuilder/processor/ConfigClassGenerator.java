@@ -0,0 +1,452 @@
+package de.maxhenkel.configbuilder.processor;
+
+import de.maxhenkel.configbuilder.annotation.ConfigClass;
+import de.maxhenkel.configbuilder.annotation.ConfigValue;
+import de.maxhenkel.configbuilder.annotation.GenerateValueSerializer;
+import de.maxhenkel.configbuilder.annotation.Range;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializable;
+
+import javax.annotation.Nullable;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.*;
+
+/**
+ * Generates the config class of a type annotated with {@link ConfigClass}.
+ */
+class ConfigClassGenerator {
+
+    private final ConfigProcessor processor;
+    private final TypeElement type;
+    private final boolean isInterface;
+
+    ConfigClassGenerator(ConfigProcessor processor, TypeElement type) {
+        this.processor = processor;
+        this.type = type;
+        this.isInterface = type.getKind() == ElementKind.INTERFACE;
+    }
+
+    void generate() {
+        if (type.getKind() != ElementKind.CLASS && !isInterface) {
+            processor.error(type, "@ConfigClass can only be used on classes and interfaces");
+            return;
+        }
+        if (!processor.checkAccessible(type)) {
+            return;
+        }
+        List<Member> members = isInterface ? interfaceMembers() : classMembers();
+        if (members == null) {
+            return;
+        }
+
+        String packageName = processor.packageName(type);
+        String name = ConfigProcessor.generatedName(type, ConfigProcessor.ENTRIES_SUFFIX);
+        String typeName = type.getQualifiedName().toString();
+        Set<String> imports = new TreeSet<>();
+        imports.add("de.maxhenkel.configbuilder.ConfigBuilder");
+        for (Member member : members) {
+            imports.add(member.kind.entryClass);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        for (String i : imports) {
+            sb.append("import ").append(i).append(";\n");
+        }
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * The config entries of {@link ").append(typeName).append("}.\n");
+        sb.append(" * <br/>\n");
+        sb.append(" * Generated by the config annotation processor.\n");
+        sb.append(" */\n");
+        sb.append(ConfigProcessor.isPublic(type) ? "public " : "").append("final class ").append(name);
+        if (isInterface) {
+            sb.append(" implements ").append(typeName);
+        }
+        sb.append(" {\n\n");
+
+        for (Member member : members) {
+            sb.append("    public final ").append(member.entryType()).append(" ").append(member.name).append(";\n");
+        }
+        if (!members.isEmpty()) {
+            sb.append("\n");
+        }
+
+        sb.append("    public ").append(name).append("(ConfigBuilder builder) {\n");
+        String defaults;
+        if (isInterface) {
+            defaults = typeName + ".super";
+        } else {
+            defaults = "defaults";
+            sb.append("        ").append(typeName).append(" defaults = new ").append(typeName).append("();\n");
+        }
+        String[] header = type.getAnnotation(ConfigClass.class).header();
+        if (header.length > 0) {
+            sb.append("        builder.header(").append(stringArray(header)).append(");\n");
+        }
+        for (Member member : members) {
+            sb.append("        this.").append(member.name).append(" = builder.").append(member.kind.method).append("(");
+            sb.append(ConfigProcessor.literal(member.key)).append(", ");
+            sb.append(defaults).append(".").append(member.name).append(isInterface ? "()" : "").append(", ");
+            if (member.kind.ranged) {
+                sb.append(member.min).append(", ").append(member.max).append(", ");
+            } else if (member.serializer != null) {
+                sb.append(member.serializer).append(", ");
+            }
+            sb.append(stringArray(member.comments)).append(");\n");
+        }
+        sb.append("    }\n\n");
+
+        sb.append("    /**\n");
+        sb.append("     * @return a new builder for this config\n");
+        sb.append("     */\n");
+        sb.append("    public static ConfigBuilder.Builder<").append(name).append("> builder() {\n");
+        sb.append("        return ConfigBuilder.builder(").append(name).append("::new);\n");
+        sb.append("    }\n\n");
+
+        if (isInterface) {
+            for (Member member : members) {
+                sb.append("    @Override\n");
+                sb.append("    public ").append(member.type).append(" ").append(member.name).append("() {\n");
+                sb.append("        return this.").append(member.name).append(".get();\n");
+                sb.append("    }\n\n");
+            }
+        } else {
+            sb.append("    /**\n");
+            sb.append("     * @return a new instance with the current values of all entries\n");
+            sb.append("     */\n");
+            sb.append("    public ").append(typeName).append(" snapshot() {\n");
+            sb.append("        ").append(typeName).append(" snapshot = new ").append(typeName).append("();\n");
+            for (Member member : members) {
+                sb.append("        snapshot.").append(member.name).append(" = this.").append(member.name).append(".get();\n");
+            }
+            sb.append("        return snapshot;\n");
+            sb.append("    }\n\n");
+        }
+        sb.append("}\n");
+        processor.write(type, name, sb.toString());
+    }
+
+    @Nullable
+    private List<Member> classMembers() {
+        boolean valid = true;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            processor.error(type, "Config classes can't be abstract");
+            valid = false;
+        }
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasConstructor = true;
+            }
+        }
+        if (!hasConstructor) {
+            processor.error(type, "Config classes need a non-private constructor without parameters");
+            valid = false;
+        }
+        List<Member> members = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                processor.error(field, "Config fields can't be private");
+                valid = false;
+                continue;
+            }
+            if (modifiers.contains(Modifier.FINAL)) {
+                processor.error(field, "Config fields can't be final");
+                valid = false;
+                continue;
+            }
+            Member member = member(field, field.asType());
+            if (member == null) {
+                valid = false;
+                continue;
+            }
+            members.add(member);
+        }
+        return checkKeys(members) && valid ? members : null;
+    }
+
+    @Nullable
+    private List<Member> interfaceMembers() {
+        boolean valid = true;
+        List<Member> members = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (!modifiers.contains(Modifier.DEFAULT)) {
+                processor.error(method, "Methods of config interfaces must be default methods that return the default value");
+                valid = false;
+                continue;
+            }
+            if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                processor.error(method, "Methods of config interfaces must return a value and can't have parameters");
+                valid = false;
+                continue;
+            }
+            if (method.getSimpleName().contentEquals("builder")) {
+                processor.error(method, "The method name builder is reserved");
+                valid = false;
+                continue;
+            }
+            Member member = member(method, method.getReturnType());
+            if (member == null) {
+                valid = false;
+                continue;
+            }
+            members.add(member);
+        }
+        return checkKeys(members) && valid ? members : null;
+    }
+
+    private boolean checkKeys(List<Member> members) {
+        Set<String> keys = new HashSet<>();
+        boolean valid = true;
+        for (Member member : members) {
+            if (!keys.add(member.key)) {
+                processor.error(member.element, "Duplicate config key %s", member.key);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    @Nullable
+    private Member member(Element element, TypeMirror memberType) {
+        TypeMirror boxed = memberType;
+        if (memberType.getKind().isPrimitive()) {
+            boxed = processor.types().boxedClass((PrimitiveType) memberType).asType();
+        }
+        if (boxed.getKind() != TypeKind.DECLARED) {
+            processor.error(element, "Unsupported config value type %s", memberType);
+            return null;
+        }
+        TypeElement valueType = (TypeElement) ((DeclaredType) boxed).asElement();
+        EntryKind kind = EntryKind.of(valueType);
+        if (kind == null && memberType.getKind().isPrimitive()) {
+            processor.error(element, "Unsupported config value type %s", memberType);
+            return null;
+        }
+        if (kind == null) {
+            kind = valueType.getKind() == ElementKind.ENUM ? EntryKind.ENUM : EntryKind.GENERIC;
+        }
+
+        ConfigValue configValue = element.getAnnotation(ConfigValue.class);
+        String name = element.getSimpleName().toString();
+        String key = configValue == null || configValue.key().isEmpty() ? name : configValue.key();
+        String[] comments = configValue == null ? new String[0] : configValue.comments();
+        Member member = new Member(element, name, key, comments, memberType.toString(), boxed.toString(), kind);
+
+        Range range = element.getAnnotation(Range.class);
+        if (range != null && !kind.ranged) {
+            processor.error(element, "@Range can only be used on integer, long, float and double values");
+            return null;
+        }
+        if (kind.ranged) {
+            double min = range == null ? Double.NEGATIVE_INFINITY : range.min();
+            double max = range == null ? Double.POSITIVE_INFINITY : range.max();
+            if (min > max) {
+                processor.error(element, "The minimum value of @Range can't be larger than the maximum value");
+                return null;
+            }
+            member.min = bound(element, kind, min);
+            member.max = bound(element, kind, max);
+            if (member.min == null || member.max == null) {
+                return null;
+            }
+        }
+        if (kind == EntryKind.GENERIC) {
+            member.serializer = serializer(valueType);
+        }
+        return member;
+    }
+
+    /**
+     * @param element the member
+     * @param kind    the kind of the entry
+     * @param bound   the bound
+     * @return the bound as Java literal or <code>null</code> if the bound is not valid
+     */
+    @Nullable
+    private String bound(Element element, EntryKind kind, double bound) {
+        if (Double.isInfinite(bound)) {
+            return String.format("(%s) null", kind.valueClass);
+        }
+        if (Double.isNaN(bound)) {
+            processor.error(element, "The bounds of @Range can't be NaN");
+            return null;
+        }
+        switch (kind) {
+            case INTEGER:
+                if (bound != Math.rint(bound) || bound < Integer.MIN_VALUE || bound > Integer.MAX_VALUE) {
+                    processor.error(element, "The bounds of @Range must be integers");
+                    return null;
+                }
+                return String.valueOf((int) bound);
+            case LONG:
+                if (bound != Math.rint(bound) || bound < Long.MIN_VALUE || bound > Long.MAX_VALUE) {
+                    processor.error(element, "The bounds of @Range must be longs");
+                    return null;
+                }
+                return (long) bound + "L";
+            case FLOAT:
+                if (Float.isInfinite((float) bound)) {
+                    processor.error(element, "The bounds of @Range must be floats");
+                    return null;
+                }
+                return (float) bound + "F";
+            default:
+                return bound + "D";
+        }
+    }
+
+    /**
+     * @param valueType the type of the value
+     * @return the expression that creates the serializer of the type or <code>null</code> if the serializer is looked up at runtime
+     */
+    @Nullable
+    private String serializer(TypeElement valueType) {
+        if (valueType.getAnnotation(GenerateValueSerializer.class) != null) {
+            String packageName = processor.packageName(valueType);
+            String name = ConfigProcessor.generatedName(valueType, ConfigProcessor.SERIALIZER_SUFFIX);
+            return String.format("%s%s.INSTANCE", packageName.isEmpty() ? "" : packageName + ".", name);
+        }
+        for (AnnotationMirror mirror : valueType.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotation.getQualifiedName().contentEquals(ValueSerializable.class.getName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+                if (!value.getKey().getSimpleName().contentEquals("value") || !(value.getValue().getValue() instanceof DeclaredType)) {
+                    continue;
+                }
+                TypeElement serializer = (TypeElement) ((DeclaredType) value.getValue().getValue()).asElement();
+                if (isConstructible(serializer)) {
+                    return String.format("new %s()", serializer.getQualifiedName());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param serializer the serializer class
+     * @return if the generated class can create the serializer without reflection
+     */
+    private boolean isConstructible(TypeElement serializer) {
+        if (serializer.getModifiers().contains(Modifier.ABSTRACT) || !serializer.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        boolean samePackage = processor.packageName(serializer).equals(processor.packageName(type));
+        for (Element e = serializer; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) && (!samePackage || modifiers.contains(Modifier.PRIVATE))) {
+                return false;
+            }
+            if (e.getEnclosingElement() instanceof TypeElement && !modifiers.contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(serializer.getEnclosedElements())) {
+            Set<Modifier> modifiers = constructor.getModifiers();
+            if (constructor.getParameters().isEmpty() && (modifiers.contains(Modifier.PUBLIC) || samePackage && !modifiers.contains(Modifier.PRIVATE))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stringArray(String[] strings) {
+        StringBuilder sb = new StringBuilder("new String[]{");
+        for (int i = 0; i < strings.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ConfigProcessor.literal(strings[i]));
+        }
+        return sb.append("}").toString();
+    }
+
+    private enum EntryKind {
+        BOOLEAN("java.lang.Boolean", "booleanEntry", "de.maxhenkel.configbuilder.entry.BooleanConfigEntry", false),
+        INTEGER("java.lang.Integer", "integerEntry", "de.maxhenkel.configbuilder.entry.IntegerConfigEntry", true),
+        LONG("java.lang.Long", "longEntry", "de.maxhenkel.configbuilder.entry.LongConfigEntry", true),
+        FLOAT("java.lang.Float", "floatEntry", "de.maxhenkel.configbuilder.entry.FloatConfigEntry", true),
+        DOUBLE("java.lang.Double", "doubleEntry", "de.maxhenkel.configbuilder.entry.DoubleConfigEntry", true),
+        STRING("java.lang.String", "stringEntry", "de.maxhenkel.configbuilder.entry.StringConfigEntry", false),
+        ENUM(null, "enumEntry", "de.maxhenkel.configbuilder.entry.EnumConfigEntry", false),
+        GENERIC(null, "entry", "de.maxhenkel.configbuilder.entry.ConfigEntry", false);
+
+        @Nullable
+        private final String valueClass;
+        private final String method;
+        private final String entryClass;
+        private final boolean ranged;
+
+        EntryKind(@Nullable String valueClass, String method, String entryClass, boolean ranged) {
+            this.valueClass = valueClass;
+            this.method = method;
+            this.entryClass = entryClass;
+            this.ranged = ranged;
+        }
+
+        @Nullable
+        private static EntryKind of(TypeElement valueType) {
+            for (EntryKind kind : values()) {
+                if (kind.valueClass != null && valueType.getQualifiedName().contentEquals(kind.valueClass)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+        private String simpleEntryClass() {
+            return entryClass.substring(entryClass.lastIndexOf('.') + 1);
+        }
+    }
+
+    private static class Member {
+        private final Element element;
+        private final String name;
+        private final String key;
+        private final String[] comments;
+        private final String type;
+        private final String boxedType;
+        private final EntryKind kind;
+        @Nullable
+        private String min;
+        @Nullable
+        private String max;
+        @Nullable
+        private String serializer;
+
+        private Member(Element element, String name, String key, String[] comments, String type, String boxedType, EntryKind kind) {
+            this.element = element;
+            this.name = name;
+            this.key = key;
+            this.comments = comments;
+            this.type = type;
+            this.boxedType = boxedType;
+            this.kind = kind;
+        }
+
+        private String entryType() {
+            if (kind == EntryKind.ENUM || kind == EntryKind.GENERIC) {
+                return String.format("%s<%s>", kind.simpleEntryClass(), boxedType);
+            }
+            return kind.simpleEntryClass();
+        }
+    }
+
+}
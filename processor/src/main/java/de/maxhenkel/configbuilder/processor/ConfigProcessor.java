@@ -0,0 +1,164 @@
+package de.maxhenkel.configbuilder.processor;
+
+import de.maxhenkel.configbuilder.annotation.ConfigClass;
+import de.maxhenkel.configbuilder.annotation.GenerateValueSerializer;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Generates the config classes of types annotated with {@link ConfigClass}
+ * and the value serializers of types annotated with {@link GenerateValueSerializer}.
+ * <br/>
+ * The generated code only uses the public API of the config builder, so no reflection is needed at runtime.
+ */
+@SupportedAnnotationTypes({
+        "de.maxhenkel.configbuilder.annotation.ConfigClass",
+        "de.maxhenkel.configbuilder.annotation.GenerateValueSerializer"
+})
+public class ConfigProcessor extends AbstractProcessor {
+
+    static final String ENTRIES_SUFFIX = "Entries";
+    static final String SERIALIZER_SUFFIX = "ValueSerializer";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateValueSerializer.class)) {
+            new ValueSerializerGenerator(this, (TypeElement) element).generate();
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConfigClass.class)) {
+            new ConfigClassGenerator(this, (TypeElement) element).generate();
+        }
+        return false;
+    }
+
+    void error(Element element, String message, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(message, args), element);
+    }
+
+    /**
+     * Checks if the type can be referenced by a generated class in the same package.
+     *
+     * @param type the type
+     * @return if the type can be referenced
+     */
+    boolean checkAccessible(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "Generic types are not supported");
+            return false;
+        }
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "Private types are not supported");
+                return false;
+            }
+            if (e.getEnclosingElement() instanceof TypeElement && !e.getModifiers().contains(Modifier.STATIC) && e.getKind() == ElementKind.CLASS) {
+                error(type, "Inner classes must be static");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param type the type
+     * @return if the type and all of its enclosing types are public
+     */
+    static boolean isPublic(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param type   the annotated type
+     * @param suffix the suffix of the generated class
+     * @return the simple name of the generated class, the names of enclosing types are prepended with an underscore
+     */
+    static String generatedName(TypeElement type, String suffix) {
+        StringBuilder sb = new StringBuilder(type.getSimpleName()).append(suffix);
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            sb.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return sb.toString();
+    }
+
+    String packageName(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    void write(TypeElement origin, String simpleName, String source) {
+        String packageName = packageName(origin);
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, origin);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(origin, "Failed to write %s: %s", name, e.getMessage());
+        }
+    }
+
+    /**
+     * @param str the string
+     * @return the string as Java string literal
+     */
+    static String literal(String str) {
+        StringBuilder sb = new StringBuilder(str.length() + 2).append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+}
@@ -0,0 +1,105 @@
+package de.maxhenkel.configbuilder.processor;
+
+import javax.annotation.Nullable;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.List;
+
+/**
+ * Generates the value serializer of a type annotated with {@link de.maxhenkel.configbuilder.annotation.GenerateValueSerializer}.
+ */
+class ValueSerializerGenerator {
+
+    private final ConfigProcessor processor;
+    private final TypeElement type;
+
+    ValueSerializerGenerator(ConfigProcessor processor, TypeElement type) {
+        this.processor = processor;
+        this.type = type;
+    }
+
+    void generate() {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.INTERFACE) {
+            processor.error(type, "Value serializers can only be generated for classes and interfaces");
+            return;
+        }
+        if (!processor.checkAccessible(type)) {
+            return;
+        }
+        String deserializer = findDeserializer();
+        if (deserializer == null) {
+            processor.error(type, "%s needs a public static fromString(String) or valueOf(String) method or a public constructor with a single string parameter", type.getSimpleName());
+            return;
+        }
+
+        String packageName = processor.packageName(type);
+        String name = ConfigProcessor.generatedName(type, ConfigProcessor.SERIALIZER_SUFFIX);
+        String typeName = type.getQualifiedName().toString();
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;\n\n");
+        sb.append("/**\n");
+        sb.append(" * Serializes {@link ").append(typeName).append("} with its string representation.\n");
+        sb.append(" * <br/>\n");
+        sb.append(" * Generated by the config annotation processor.\n");
+        sb.append(" */\n");
+        sb.append(ConfigProcessor.isPublic(type) ? "public " : "").append("final class ").append(name).append(" implements ValueSerializer<").append(typeName).append("> {\n\n");
+        sb.append("    public static final ").append(name).append(" INSTANCE = new ").append(name).append("();\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public ").append(typeName).append(" deserialize(String str) {\n");
+        sb.append("        try {\n");
+        sb.append("            return ").append(deserializer).append(";\n");
+        sb.append("        } catch (IllegalArgumentException e) {\n");
+        sb.append("            return null;\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public String serialize(").append(typeName).append(" val) {\n");
+        sb.append("        return val.toString();\n");
+        sb.append("    }\n\n");
+        sb.append("}\n");
+        processor.write(type, name, sb.toString());
+    }
+
+    /**
+     * @return the expression that deserializes <code>str</code> or <code>null</code> if the type can't be deserialized
+     */
+    @Nullable
+    private String findDeserializer() {
+        String typeName = type.getQualifiedName().toString();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        for (String methodName : new String[]{"fromString", "valueOf"}) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(methodName)
+                        && method.getModifiers().contains(Modifier.STATIC)
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && hasStringParameter(method)
+                        && processor.types().isAssignable(method.getReturnType(), type.asType())) {
+                    return String.format("%s.%s(str)", typeName, methodName);
+                }
+            }
+        }
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return null;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE) && hasStringParameter(constructor)) {
+                return String.format("new %s(str)", typeName);
+            }
+        }
+        return null;
+    }
+
+    private boolean hasStringParameter(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() != 1) {
+            return false;
+        }
+        TypeMirror string = processor.elements().getTypeElement(String.class.getName()).asType();
+        return processor.types().isSameType(parameters.get(0).asType(), string);
+    }
+
+}
@@ -0,0 +1,265 @@
+package de.maxhenkel.configbuilder.processor;
+
+import de.maxhenkel.configbuilder.ConfigBuilder;
+import de.maxhenkel.configbuilder.entry.ConfigEntry;
+import de.maxhenkel.configbuilder.entry.GenericConfigEntry;
+import de.maxhenkel.configbuilder.entry.serializer.ValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigProcessorTest {
+
+    private static final String SERVER_CONFIG = "package test;\n" +
+            "import de.maxhenkel.configbuilder.annotation.*;\n" +
+            "@ConfigClass(header = {\"Server config\", \"Version 1\"})\n" +
+            "public class ServerConfig {\n" +
+            "    @ConfigValue(key = \"server_port\", comments = \"The \\\"port\\\" of the server\")\n" +
+            "    @Range(min = 1, max = 65535)\n" +
+            "    public int port = 25565;\n" +
+            "    public String motd = \"Hello\";\n" +
+            "    public boolean online = true;\n" +
+            "    @Range(min = 0)\n" +
+            "    public Long timeout = 1000L;\n" +
+            "    @Range(min = 0, max = 1)\n" +
+            "    public double ratio = 0.5D;\n" +
+            "    public float scale = 2F;\n" +
+            "    public Mode mode = Mode.SURVIVAL;\n" +
+            "    public java.util.UUID id = new java.util.UUID(0L, 1L);\n" +
+            "    public Version version = new Version(1, 2);\n" +
+            "    public static int ignoredStatic = 1;\n" +
+            "    public transient int ignoredTransient = 1;\n" +
+            "    public enum Mode {\n" +
+            "        SURVIVAL, CREATIVE\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String VERSION = "package test;\n" +
+            "@de.maxhenkel.configbuilder.annotation.GenerateValueSerializer\n" +
+            "public class Version {\n" +
+            "    public final int major;\n" +
+            "    public final int minor;\n" +
+            "    public Version(int major, int minor) {\n" +
+            "        this.major = major;\n" +
+            "        this.minor = minor;\n" +
+            "    }\n" +
+            "    public static Version fromString(String str) {\n" +
+            "        String[] parts = str.split(\"\\\\.\");\n" +
+            "        if (parts.length != 2) {\n" +
+            "            throw new IllegalArgumentException();\n" +
+            "        }\n" +
+            "        return new Version(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));\n" +
+            "    }\n" +
+            "    @Override\n" +
+            "    public String toString() {\n" +
+            "        return major + \".\" + minor;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String CLIENT_CONFIG = "package test;\n" +
+            "import de.maxhenkel.configbuilder.annotation.*;\n" +
+            "@ConfigClass\n" +
+            "public interface ClientConfig {\n" +
+            "    @ConfigValue(comments = \"The render distance\")\n" +
+            "    @Range(min = 2, max = 32)\n" +
+            "    default int renderDistance() {\n" +
+            "        return 12;\n" +
+            "    }\n" +
+            "    default String name() {\n" +
+            "        return \"Player\";\n" +
+            "    }\n" +
+            "    static int ignored() {\n" +
+            "        return 1;\n" +
+            "    }\n" +
+            "}\n";
+
+    @Test
+    @DisplayName("Config class")
+    void configClass(@TempDir Path tempDir) throws Exception {
+        ClassLoader classLoader = compile(tempDir, source("test.ServerConfig", SERVER_CONFIG), source("test.Version", VERSION)).classLoader;
+        Path file = tempDir.resolve("config.properties");
+        Files.write(file, Arrays.asList("server_port=70000", "motd=Test", "ratio=invalid", "version=3.4", "mode=CREATIVE"), StandardCharsets.UTF_8);
+
+        Object config = build(classLoader.loadClass("test.ServerConfigEntries"), file);
+        Class<?> configClass = config.getClass();
+        assertEquals(65535, entry(config, "port").get());
+        assertEquals("server_port", entry(config, "port").getKey());
+        assertEquals("Test", entry(config, "motd").get());
+        assertEquals(true, entry(config, "online").get());
+        assertEquals(1000L, entry(config, "timeout").get());
+        assertEquals(0.5D, entry(config, "ratio").get());
+        assertEquals(2F, entry(config, "scale").get());
+        assertEquals("CREATIVE", entry(config, "mode").get().toString());
+        assertEquals(new UUID(0L, 1L), entry(config, "id").get());
+        assertEquals("3.4", entry(config, "version").get().toString());
+
+        // The generated serializer is used directly instead of looking it up at runtime
+        ValueSerializer<?> serializer = ((GenericConfigEntry<?>) entry(config, "version")).getSerializer();
+        assertEquals("test.VersionValueSerializer", serializer.getClass().getName());
+        assertNull(serializer.deserialize("invalid"));
+        assertFalse(Arrays.stream(configClass.getFields()).anyMatch(f -> f.getName().startsWith("ignored")));
+
+        Object snapshot = configClass.getMethod("snapshot").invoke(config);
+        assertEquals(65535, snapshot.getClass().getField("port").get(snapshot));
+        assertEquals("Test", snapshot.getClass().getField("motd").get(snapshot));
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals("# Server config", lines.get(0));
+        assertEquals("# Version 1", lines.get(1));
+        assertTrue(lines.contains("# The \"port\" of the server"));
+        assertTrue(lines.contains("server_port=65535"));
+        assertTrue(lines.contains("version=3.4"));
+    }
+
+    @Test
+    @DisplayName("Config interface")
+    void configInterface(@TempDir Path tempDir) throws Exception {
+        ClassLoader classLoader = compile(tempDir, source("test.ClientConfig", CLIENT_CONFIG)).classLoader;
+        Path file = tempDir.resolve("config.properties");
+        Files.write(file, Collections.singletonList("renderDistance=1"), StandardCharsets.UTF_8);
+
+        Class<?> configInterface = classLoader.loadClass("test.ClientConfig");
+        Object config = build(classLoader.loadClass("test.ClientConfigEntries"), file);
+        assertTrue(configInterface.isInstance(config));
+        assertEquals(2, configInterface.getMethod("renderDistance").invoke(config));
+        assertEquals("Player", configInterface.getMethod("name").invoke(config));
+
+        entry(config, "name").set("Test");
+        assertEquals("Test", configInterface.getMethod("name").invoke(config));
+    }
+
+    @Test
+    @DisplayName("Nested config class")
+    void nested(@TempDir Path tempDir) throws Exception {
+        ClassLoader classLoader = compile(tempDir, source("test.Outer", "package test;\n" +
+                "public class Outer {\n" +
+                "    @de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "    public static class Inner {\n" +
+                "        public int value = 5;\n" +
+                "    }\n" +
+                "}\n")).classLoader;
+        Class<?> entriesClass = classLoader.loadClass("test.Outer_InnerEntries");
+        Object config = build(entriesClass, tempDir.resolve("config.properties"));
+        assertEquals(5, entry(config, "value").get());
+    }
+
+    @Test
+    @DisplayName("Invalid config classes")
+    void invalid(@TempDir Path tempDir) throws IOException {
+        assertError(tempDir, "Config fields can't be private", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    private int value = 1;\n" +
+                "}\n");
+        assertError(tempDir, "Config fields can't be final", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    public final int value = 1;\n" +
+                "}\n");
+        assertError(tempDir, "The bounds of @Range must be integers", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    @de.maxhenkel.configbuilder.annotation.Range(min = 0.5)\n" +
+                "    public int value = 1;\n" +
+                "}\n");
+        assertError(tempDir, "@Range can only be used on integer, long, float and double values", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    @de.maxhenkel.configbuilder.annotation.Range(min = 0)\n" +
+                "    public String value = \"\";\n" +
+                "}\n");
+        assertError(tempDir, "Duplicate config key value", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    public int value = 1;\n" +
+                "    @de.maxhenkel.configbuilder.annotation.ConfigValue(key = \"value\")\n" +
+                "    public int other = 1;\n" +
+                "}\n");
+        assertError(tempDir, "Config classes need a non-private constructor without parameters", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public class Invalid {\n" +
+                "    public int value = 1;\n" +
+                "    public Invalid(int value) {\n" +
+                "    }\n" +
+                "}\n");
+        assertError(tempDir, "Methods of config interfaces must be default methods that return the default value", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.ConfigClass\n" +
+                "public interface Invalid {\n" +
+                "    int value();\n" +
+                "}\n");
+        assertError(tempDir, "Invalid needs a public static fromString(String) or valueOf(String) method or a public constructor with a single string parameter", "package test;\n" +
+                "@de.maxhenkel.configbuilder.annotation.GenerateValueSerializer\n" +
+                "public class Invalid {\n" +
+                "}\n");
+    }
+
+    private static void assertError(Path tempDir, String message, String source) throws IOException {
+        Compilation compilation = compile(Files.createTempDirectory(tempDir, "invalid"), source("test.Invalid", source));
+        assertFalse(compilation.success);
+        List<String> errors = compilation.diagnostics.stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        assertEquals(Collections.singletonList(message), errors);
+    }
+
+    private static Object build(Class<?> entriesClass, Path file) throws ReflectiveOperationException {
+        ConfigBuilder.Builder<?> builder = (ConfigBuilder.Builder<?>) entriesClass.getMethod("builder").invoke(null);
+        return builder.path(file).saveSyncAfterBuild(true).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConfigEntry<Object> entry(Object config, String name) throws ReflectiveOperationException {
+        return (ConfigEntry<Object>) config.getClass().getField(name).get(config);
+    }
+
+    private static JavaFileObject source(String name, String source) {
+        return new SimpleJavaFileObject(URI.create(String.format("string:///%s.java", name.replace('.', '/'))), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private static Compilation compile(Path output, JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output.toFile()));
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new ConfigProcessor()));
+            boolean success = task.call();
+            ClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, ConfigProcessorTest.class.getClassLoader());
+            return new Compilation(success, diagnostics.getDiagnostics(), classLoader);
+        }
+    }
+
+    private static class Compilation {
+        private final boolean success;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final ClassLoader classLoader;
+
+        private Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, ClassLoader classLoader) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.classLoader = classLoader;
+        }
+    }
+
+}